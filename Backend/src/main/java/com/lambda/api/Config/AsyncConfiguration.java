@@ -1,6 +1,7 @@
 package com.lambda.api.Config;
 
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -24,4 +25,34 @@ public class AsyncConfiguration {
         executor.initialize();
         return executor;
     }
+
+    // Bounded on purpose: when the queue is full, submissions are rejected instead of piling up spooled files.
+    @Bean("imageIngestionExecutor")
+    public Executor imageIngestionExecutor(@Value("${IMAGE_INGESTION_WORKERS:4}") int workers,
+                                           @Value("${IMAGE_INGESTION_QUEUE_CAPACITY:20}") int queueCapacity){
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ImageIngestionThread-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // CPU-bound decoding: sized to the cores, and a full queue makes the caller do the work instead of queueing more.
+    @Bean("imageProcessingExecutor")
+    public Executor imageProcessingExecutor(@Value("${IMAGE_PROCESSING_THREADS:2}") int threads,
+                                            @Value("${IMAGE_PROCESSING_QUEUE_CAPACITY:50}") int queueCapacity){
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ImageProcessingThread-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
 }
@@ -0,0 +1,58 @@
+package com.lambda.api.Config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lambda.api.Utils.ImagePreset;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    public static final String CATEGORIES = "categories";
+    public static final String BUSINESS_INFO = "businessInfo";
+    public static final String ABOUT = "about";
+    public static final String BANNER = "banner";
+    public static final String PRODUCTS = "products";
+    public static final String SECURITY_STAMPS = "securityStamps";
+
+    @Value("${CACHE_TTL_SECONDS:300}")
+    private long ttlSeconds;
+    @Value("${CACHE_PRODUCTS_MAX_SIZE:500}")
+    private long productsMaxSize;
+    @Value("${JWT_STAMP_CACHE_SECONDS:60}")
+    private long stampTtlSeconds;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // Single-row caches hold one entry (the no-arg key); the banner one per image preset; products are keyed by id.
+        cacheManager.registerCustomCache(CATEGORIES, buildCache(1));
+        cacheManager.registerCustomCache(BUSINESS_INFO, buildCache(1));
+        cacheManager.registerCustomCache(ABOUT, buildCache(1));
+        cacheManager.registerCustomCache(BANNER, buildCache(ImagePreset.values().length));
+        cacheManager.registerCustomCache(PRODUCTS, buildCache(productsMaxSize));
+        // Bounds how long a rotated security stamp keeps old tokens valid on other instances.
+        cacheManager.registerCustomCache(SECURITY_STAMPS, buildCache(1000, stampTtlSeconds));
+        cacheManager.setAllowNullValues(false);
+        // Evictions and puts made inside a transaction only reach the cache after it commits.
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> buildCache(long maximumSize) {
+        return buildCache(maximumSize, ttlSeconds);
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> buildCache(long maximumSize, long ttlSeconds) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+}
@@ -1,9 +1,16 @@
 package com.lambda.api.Config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
 @Configuration
+@ConditionalOnProperty(name = "IMAGE_STORAGE", havingValue = "cloudinary", matchIfMissing = true)
 public class CloudinaryConfig {
 
     @Value("${CLOUD_API_KEY}")
@@ -16,4 +23,16 @@ public class CloudinaryConfig {
     @Value("${CLOUDINARY_URL}")
     private String cloudinaryUrl;
 
+    @Value("${CLOUDINARY_CONNECT_TIMEOUT_MS:5000}")
+    private long connectTimeoutMillis;
+
+    // One long-lived client: connections and TLS sessions to api.cloudinary.com are reused across calls.
+    @Bean(destroyMethod = "close")
+    public HttpClient cloudinaryHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
 }
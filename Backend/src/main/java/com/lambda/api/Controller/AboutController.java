@@ -3,7 +3,11 @@ package com.lambda.api.Controller;
 import com.lambda.api.Dtos.AboutDTO;
 import com.lambda.api.Dtos.AboutRequestDTO;
 import com.lambda.api.Dtos.BannerDTO;
+import com.lambda.api.Events.CatalogSection;
 import com.lambda.api.Service.AboutService;
+import com.lambda.api.Service.CatalogSnapshotService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -12,15 +16,23 @@ import org.springframework.web.bind.annotation.*;
 public class AboutController {
 
     private final AboutService aboutService;
+    private final CatalogSnapshotService catalogSnapshotService;
 
-    public AboutController(AboutService aboutService) {
+    public AboutController(AboutService aboutService, CatalogSnapshotService catalogSnapshotService) {
         this.aboutService = aboutService;
+        this.catalogSnapshotService = catalogSnapshotService;
     }
 
     @GetMapping
-    public ResponseEntity<AboutDTO> getAboutText(){
+    public ResponseEntity<byte[]> getAboutText(){
 
-        return ResponseEntity.ok(aboutService.getAbout());
+        var section = catalogSnapshotService.getSection(CatalogSection.ABOUT);
+
+        return ResponseEntity.ok()
+                .eTag(section.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(section.body());
     }
 
     @PutMapping("/update")
@@ -3,7 +3,12 @@ package com.lambda.api.Controller;
 import com.lambda.api.Dtos.ModifyBannerDataDTO;
 import com.lambda.api.Dtos.ModifyBannerImageDTO;
 import com.lambda.api.Dtos.BannerDTO;
+import com.lambda.api.Events.CatalogSection;
 import com.lambda.api.Service.BannerService;
+import com.lambda.api.Service.CatalogSnapshotService;
+import com.lambda.api.Utils.ImagePreset;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -12,9 +17,11 @@ import org.springframework.web.bind.annotation.*;
 public class BannerController {
 
     private final BannerService service;
+    private final CatalogSnapshotService catalogSnapshotService;
 
-    public BannerController(BannerService service) {
+    public BannerController(BannerService service, CatalogSnapshotService catalogSnapshotService) {
         this.service = service;
+        this.catalogSnapshotService = catalogSnapshotService;
     }
 
     @PostMapping("/images")
@@ -36,8 +43,15 @@ public class BannerController {
     }
 
     @GetMapping
-    public ResponseEntity<BannerDTO> getBannerImage(){
+    public ResponseEntity<byte[]> getBannerImage(@RequestParam(required = false) String preset){
 
-        return ResponseEntity.ok(service.getBannerImages());
+        var section = catalogSnapshotService.getSection(CatalogSection.BANNER,
+                preset != null ? ImagePreset.fromString(preset) : null);
+
+        return ResponseEntity.ok()
+                .eTag(section.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(section.body());
     }
 }
@@ -2,7 +2,11 @@ package com.lambda.api.Controller;
 
 import com.lambda.api.Dtos.BusinessInfoDTO;
 import com.lambda.api.Dtos.BusinessInfoUpdateDTO;
+import com.lambda.api.Events.CatalogSection;
 import com.lambda.api.Service.BusinessInfoService;
+import com.lambda.api.Service.CatalogSnapshotService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -11,15 +15,23 @@ import org.springframework.web.bind.annotation.*;
 public class BusinessInfoController {
 
     private final BusinessInfoService service;
+    private final CatalogSnapshotService catalogSnapshotService;
 
-    public BusinessInfoController(BusinessInfoService service) {
+    public BusinessInfoController(BusinessInfoService service, CatalogSnapshotService catalogSnapshotService) {
         this.service = service;
+        this.catalogSnapshotService = catalogSnapshotService;
     }
 
     @GetMapping("/info")
-    public ResponseEntity<BusinessInfoDTO> getBusinessInfo(){
+    public ResponseEntity<byte[]> getBusinessInfo(){
 
-        return ResponseEntity.ok(service.getBusinessInfo());
+        var section = catalogSnapshotService.getSection(CatalogSection.BUSINESS_INFO);
+
+        return ResponseEntity.ok()
+                .eTag(section.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(section.body());
     }
 
     @PutMapping("/update")
@@ -0,0 +1,35 @@
+package com.lambda.api.Controller;
+
+import com.lambda.api.Dtos.CacheStatsDTO;
+import com.lambda.api.Dtos.ImageHashFilterStatsDTO;
+import com.lambda.api.Service.CacheStatsService;
+import com.lambda.api.Service.ImageHashFilterService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+
+    private final CacheStatsService cacheStatsService;
+    private final ImageHashFilterService imageHashFilterService;
+
+    public CacheController(CacheStatsService cacheStatsService, ImageHashFilterService imageHashFilterService) {
+        this.cacheStatsService = cacheStatsService;
+        this.imageHashFilterService = imageHashFilterService;
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheStatsDTO>> getCacheStats(){
+
+        return ResponseEntity.ok(cacheStatsService.getCacheStats());
+    }
+
+    @GetMapping("/image-hashes")
+    public ResponseEntity<ImageHashFilterStatsDTO> getImageHashFilterStats(){
+
+        return ResponseEntity.ok(imageHashFilterService.getStats());
+    }
+}
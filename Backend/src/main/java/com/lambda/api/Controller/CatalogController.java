@@ -0,0 +1,23 @@
+package com.lambda.api.Controller;
+
+import com.lambda.api.Service.CatalogEventService;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/catalog")
+public class CatalogController {
+
+    private final CatalogEventService catalogEventService;
+
+    public CatalogController(CatalogEventService catalogEventService) {
+        this.catalogEventService = catalogEventService;
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCatalogEvents(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId){
+
+        return catalogEventService.subscribe(lastEventId);
+    }
+}
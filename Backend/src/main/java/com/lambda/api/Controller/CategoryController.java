@@ -1,21 +1,26 @@
 package com.lambda.api.Controller;
 
+import com.lambda.api.Dtos.CatalogChangesDTO;
 import com.lambda.api.Dtos.CategoryDTO;
 import com.lambda.api.Dtos.CreateCategoryDTO;
+import com.lambda.api.Events.CatalogSection;
+import com.lambda.api.Service.CatalogSnapshotService;
 import com.lambda.api.Service.CategoryService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/category")
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final CatalogSnapshotService catalogSnapshotService;
 
-    public CategoryController(CategoryService categoryService) {
+    public CategoryController(CategoryService categoryService, CatalogSnapshotService catalogSnapshotService) {
         this.categoryService = categoryService;
+        this.catalogSnapshotService = catalogSnapshotService;
     }
 
     @PostMapping("/create")
@@ -33,9 +38,21 @@ public class CategoryController {
     }
 
     @GetMapping("/all")
-    public ResponseEntity<List<CategoryDTO>> getAllCategories(){
+    public ResponseEntity<byte[]> getAllCategories(){
+
+        var section = catalogSnapshotService.getSection(CatalogSection.CATEGORIES);
+
+        return ResponseEntity.ok()
+                .eTag(section.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(section.body());
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<CatalogChangesDTO<CategoryDTO>> getCategoryChanges(@RequestParam(required = false) String since){
 
-        return ResponseEntity.ok(categoryService.getCategories());
+        return ResponseEntity.ok(categoryService.getCategoryChanges(since));
     }
 
     @PutMapping("/update/{id}")
@@ -1,12 +1,23 @@
 package com.lambda.api.Controller;
 
+import com.lambda.api.Dtos.ImageBatchResultDTO;
+import com.lambda.api.Dtos.ImageBulkDeleteDTO;
+import com.lambda.api.Dtos.ImageBulkDeleteResultDTO;
 import com.lambda.api.Dtos.ImageCreateDTO;
 import com.lambda.api.Dtos.ImageDTO;
+import com.lambda.api.Dtos.ImageJobDTO;
+import com.lambda.api.Dtos.ImageUploadSignatureDTO;
+import com.lambda.api.Dtos.ImageUploadSignatureRequestDTO;
+import com.lambda.api.Entities.valueObjects.ImageJobStatus;
 import com.lambda.api.Service.ImageService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.UUID;
 @RestController
 @RequestMapping("/api/image")
 public class ImageController {
@@ -18,9 +29,47 @@ public class ImageController {
     }
 
     @PostMapping("/create")
-    public ResponseEntity<ImageDTO> createImage(@RequestBody ImageCreateDTO request) throws Exception {
+    public ResponseEntity<ImageJobDTO> createImage(@RequestBody ImageCreateDTO request) throws Exception {
 
-        return ResponseEntity.ok(imageService.createImage(request));
+        ImageJobDTO job = imageService.submitImage(request);
+
+        if (job.status() == ImageJobStatus.COMPLETED) {
+            return ResponseEntity.ok(job);
+        }
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path("/api/image/jobs/{id}").buildAndExpand(job.id()).toUri())
+                .body(job);
+    }
+
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<ImageJobDTO> getImageJob(@PathVariable UUID id){
+
+        return ResponseEntity.ok(imageService.getImageJob(id));
+    }
+
+    @PostMapping(value = "/upload", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ImageDTO> uploadImage(InputStream body) throws Exception {
+
+        return ResponseEntity.ok(imageService.uploadImage(body));
+    }
+
+    @PostMapping(value = "/batch", consumes = {"application/zip", "application/x-zip-compressed"})
+    public ResponseEntity<List<ImageBatchResultDTO>> uploadImages(InputStream body) throws Exception {
+
+        return ResponseEntity.ok(imageService.uploadImages(body));
+    }
+
+    @PostMapping("/upload/signature")
+    public ResponseEntity<ImageUploadSignatureDTO> signUpload(@RequestBody ImageUploadSignatureRequestDTO request){
+
+        return ResponseEntity.ok(imageService.signUpload(request));
+    }
+
+    @PostMapping(value = "/upload/complete", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImageDTO> completeUpload(@RequestBody String uploadResult){
+
+        return ResponseEntity.ok(imageService.completeUpload(uploadResult));
     }
 
     @DeleteMapping("/delete/{id}")
@@ -29,6 +78,12 @@ public class ImageController {
         return ResponseEntity.ok().build();
     }
 
+    @DeleteMapping("/delete")
+    public ResponseEntity<ImageBulkDeleteResultDTO> deleteImages(@RequestBody ImageBulkDeleteDTO request){
+
+        return ResponseEntity.ok(imageService.deleteImages(request));
+    }
+
     @GetMapping("/all")
     public ResponseEntity<List<ImageDTO>> getAllImages(){
 
@@ -0,0 +1,117 @@
+package com.lambda.api.Controller;
+
+import com.lambda.api.Service.LocalImageStorageService;
+import com.lambda.api.Utils.ByteRange;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+/**
+ * Origin for the local storage. Files are content-addressed, so responses are immutable and the
+ * key doubles as a strong ETag. Bodies go out through sendfile when the connector supports it,
+ * otherwise through {@link FileChannel#transferTo}, never through a heap buffer.
+ */
+@RestController
+@RequestMapping("/api/image/files")
+@ConditionalOnProperty(name = "IMAGE_STORAGE", havingValue = "local")
+public class ImageFileController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final String CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable().getHeaderValue();
+
+    private final LocalImageStorageService storageService;
+
+    public ImageFileController(LocalImageStorageService storageService) {
+        this.storageService = storageService;
+    }
+
+    @GetMapping("/{key}")
+    public void getFile(@PathVariable String key, HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        Path file = storageService.resolve(key).orElse(null);
+
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String etag = "\"" + key + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long size = Files.size(file);
+        ByteRange range = ByteRange.parse(request.getHeader(HttpHeaders.RANGE), size);
+
+        if (range == ByteRange.UNSATISFIABLE) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+        if (range == null) {
+            range = new ByteRange(0, size - 1);
+            response.setStatus(HttpServletResponse.SC_OK);
+        } else {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + range.start() + "-" + range.end() + "/" + size);
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        }
+
+        response.setContentType(contentTypeOf(file));
+        response.setContentLengthLong(range.length());
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, range.start());
+            request.setAttribute(SENDFILE_END, range.end() + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = range.start();
+            long remaining = range.length();
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    private String contentTypeOf(Path file) throws IOException {
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            String contentType = URLConnection.guessContentTypeFromStream(in);
+            return contentType != null ? contentType : "application/octet-stream";
+        }
+    }
+}
@@ -1,23 +1,29 @@
 package com.lambda.api.Controller;
 
+import com.lambda.api.Dtos.CatalogChangesDTO;
 import com.lambda.api.Dtos.CreateMenuItemDTO;
 import com.lambda.api.Dtos.MenuItemDTO;
 import com.lambda.api.Dtos.MenuItemUpdateDTO;
 import com.lambda.api.Dtos.ModifyMenuItemImageDTO;
+import com.lambda.api.Events.CatalogSection;
+import com.lambda.api.Service.CatalogSnapshotService;
 import com.lambda.api.Service.MenuItemService;
+import com.lambda.api.Utils.ImagePreset;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/menu")
 public class MenuItemController {
 
     private final MenuItemService menuItemService;
+    private final CatalogSnapshotService catalogSnapshotService;
 
-    public MenuItemController(MenuItemService menuItemService) {
+    public MenuItemController(MenuItemService menuItemService, CatalogSnapshotService catalogSnapshotService) {
         this.menuItemService = menuItemService;
+        this.catalogSnapshotService = catalogSnapshotService;
     }
 
     @PostMapping("/create")
@@ -33,9 +39,22 @@ public class MenuItemController {
     }
 
     @GetMapping("/all")
-    public ResponseEntity<List<MenuItemDTO>> getMenuItems(){
+    public ResponseEntity<byte[]> getMenuItems(@RequestParam(required = false) String preset){
+
+        var section = catalogSnapshotService.getSection(CatalogSection.MENU,
+                preset != null ? ImagePreset.fromString(preset) : null);
+
+        return ResponseEntity.ok()
+                .eTag(section.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(section.body());
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<CatalogChangesDTO<MenuItemDTO>> getMenuItemChanges(@RequestParam(required = false) String since){
 
-        return ResponseEntity.ok(menuItemService.getMenuItems());
+        return ResponseEntity.ok(menuItemService.getMenuItemChanges(since));
     }
 
     @PostMapping("/add/image")
@@ -1,7 +1,10 @@
 package com.lambda.api.Controller;
 
+import com.lambda.api.Dtos.CatalogChangesDTO;
 import com.lambda.api.Dtos.CreateProductDTO;
 import com.lambda.api.Dtos.ProductDTO;
+import com.lambda.api.Dtos.ProductSearchDTO;
+import com.lambda.api.Dtos.ProductSliceDTO;
 import com.lambda.api.Dtos.ProductUpdateDTO;
 import com.lambda.api.Service.ProductService;
 import org.springframework.data.domain.Page;
@@ -45,6 +48,41 @@ public class ProductController {
         Page<ProductDTO> productPage = productService.getAllProducts(page, size);
         return ResponseEntity.ok(productPage);
     }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<ProductSliceDTO> scrollAvailableProducts(@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "10") int size) {
+
+        return ResponseEntity.ok(productService.getAvailableProductsAfter(cursor, size));
+    }
+
+    @GetMapping("/all/scroll")
+    public ResponseEntity<ProductSliceDTO> scrollAllProducts(@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "10") int size) {
+
+        return ResponseEntity.ok(productService.getAllProductsAfter(cursor, size));
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<CatalogChangesDTO<ProductDTO>> getAvailableProductChanges(@RequestParam(required = false) String since) {
+
+        return ResponseEntity.ok(productService.getAvailableProductChanges(since));
+    }
+
+    @GetMapping("/all/changes")
+    public ResponseEntity<CatalogChangesDTO<ProductDTO>> getAllProductChanges(@RequestParam(required = false) String since) {
+
+        return ResponseEntity.ok(productService.getAllProductChanges(since));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<Page<ProductDTO>> searchProducts(ProductSearchDTO search,
+                                                           @RequestParam(defaultValue = "0") int page,
+                                                           @RequestParam(defaultValue = "10") int size,
+                                                           @RequestParam(defaultValue = "name") String sort,
+                                                           @RequestParam(defaultValue = "asc") String direction) {
+
+        return ResponseEntity.ok(productService.searchProducts(search, page, size, sort, direction));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ProductDTO> updateProduct(@PathVariable Long id, @RequestBody ProductUpdateDTO productUpdateDTO) {
         ProductDTO updatedProduct = productService.updateProduct(id, productUpdateDTO);
@@ -0,0 +1,5 @@
+package com.lambda.api.Dtos;
+
+public record CacheStatsDTO(String name, long size, long hitCount, long missCount,
+                            double hitRate, long evictionCount) {
+}
@@ -0,0 +1,6 @@
+package com.lambda.api.Dtos;
+
+import java.util.List;
+
+public record CatalogChangesDTO<T>(List<T> upserts, List<Long> deleted, String token) {
+}
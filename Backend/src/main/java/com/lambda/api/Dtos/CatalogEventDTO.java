@@ -0,0 +1,8 @@
+package com.lambda.api.Dtos;
+
+import com.lambda.api.Events.CatalogSection;
+
+import java.util.Set;
+
+public record CatalogEventDTO(long id, Set<CatalogSection> sections) {
+}
@@ -0,0 +1,6 @@
+package com.lambda.api.Dtos;
+
+import com.lambda.api.Entities.valueObjects.ImageBatchStatus;
+
+public record ImageBatchResultDTO(String name, ImageBatchStatus status, ImageDTO image, String error) {
+}
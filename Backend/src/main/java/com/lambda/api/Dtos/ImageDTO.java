@@ -1,4 +1,12 @@
 package com.lambda.api.Dtos;
 
-public record ImageDTO(Long id, String url) {
+import com.lambda.api.Entities.valueObjects.ImageVariant;
+
+import java.util.List;
+
+public record ImageDTO(Long id, String url, Integer width, Integer height, String placeholder, List<ImageVariant> variants) {
+
+    public ImageDTO(Long id, String url) {
+        this(id, url, null, null, null, List.of());
+    }
 }
@@ -0,0 +1,6 @@
+package com.lambda.api.Dtos;
+
+public record ImageHashFilterStatsDTO(boolean ready, long entries, long capacity, int hashFunctions, long memoryBytes,
+                                      double expectedFalsePositiveRate, long lookups, long definitelyNew,
+                                      long falsePositives, double observedFalsePositiveRate) {
+}
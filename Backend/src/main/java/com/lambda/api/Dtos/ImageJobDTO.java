@@ -0,0 +1,8 @@
+package com.lambda.api.Dtos;
+
+import com.lambda.api.Entities.valueObjects.ImageJobStatus;
+
+import java.util.UUID;
+
+public record ImageJobDTO(UUID id, ImageJobStatus status, ImageDTO image, String error) {
+}
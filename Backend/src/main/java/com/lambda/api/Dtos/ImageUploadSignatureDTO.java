@@ -0,0 +1,6 @@
+package com.lambda.api.Dtos;
+
+import java.util.Map;
+
+public record ImageUploadSignatureDTO(ImageDTO image, String uploadUrl, Map<String, String> params) {
+}
@@ -0,0 +1,4 @@
+package com.lambda.api.Dtos;
+
+public record ImageUploadSignatureRequestDTO(String hash) {
+}
@@ -3,5 +3,6 @@ package com.lambda.api.Dtos;
 import java.util.List;
 
 public record MenuItemDTO(Long id, String title, String subtitle, String description,
-                          int price, List<String> contentItems, List<String> imageUrls, String category, Long category_id) {
+                          int price, List<String> contentItems, List<String> imageUrls, List<ImageDTO> images,
+                          String category, Long category_id) {
 }
@@ -0,0 +1,5 @@
+package com.lambda.api.Dtos;
+
+public record MenuItemSummaryDTO(Long id, String title, String subtitle, String description,
+                                 int price, String category, Long category_id) {
+}
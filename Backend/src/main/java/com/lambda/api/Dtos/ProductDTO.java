@@ -1,5 +1,14 @@
 package com.lambda.api.Dtos;
 
+import com.lambda.api.Entities.valueObjects.UnitOfMeasure;
+
 public record ProductDTO(Long id, String name, String unitOfMeasure, Double quantity, Double purchaseCost,
                          Double cost, Double profitMargin, Double price, Integer minimumOrder, Boolean available) {
+
+    // Used by the JPQL constructor expressions in ProductRepository.
+    public ProductDTO(Long id, String name, UnitOfMeasure unitOfMeasure, Double quantity, Double purchaseCost,
+                      Double cost, Double profitMargin, Double price, Integer minimumOrder, Boolean available) {
+        this(id, name, unitOfMeasure != null ? unitOfMeasure.name() : null, quantity, purchaseCost,
+                cost, profitMargin, price, minimumOrder, available);
+    }
 }
@@ -0,0 +1,13 @@
+package com.lambda.api.Dtos;
+
+public record ProductSearchDTO(String name, Boolean prefix, String unitOfMeasure, Boolean available,
+                               Double minPrice, Double maxPrice, Double minCost, Double maxCost) {
+    public ProductSearchDTO {
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new IllegalArgumentException("minPrice cannot be greater than maxPrice");
+        }
+        if (minCost != null && maxCost != null && minCost > maxCost) {
+            throw new IllegalArgumentException("minCost cannot be greater than maxCost");
+        }
+    }
+}
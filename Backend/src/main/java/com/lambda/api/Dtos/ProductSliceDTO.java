@@ -0,0 +1,6 @@
+package com.lambda.api.Dtos;
+
+import java.util.List;
+
+public record ProductSliceDTO(List<ProductDTO> content, String nextCursor, boolean hasNext) {
+}
@@ -16,10 +16,14 @@ public class Banner {
     private Long id;
     private String tittle;
     private String description;
-    @ElementCollection
-    @CollectionTable(name = "banner_images", joinColumns = @JoinColumn(name = "banner_id"))
-    @Column(name = "image_url")
-    private List<String> imageUrls = new ArrayList<>();
+    @ManyToMany
+    @JoinTable(
+            name = "banner_images",
+            joinColumns = @JoinColumn(name = "banner_id"),
+            inverseJoinColumns = @JoinColumn(name = "image_id"),
+            indexes = @Index(name = "idx_banner_images_image_id", columnList = "image_id")
+    )
+    private List<Image> images = new ArrayList<>();
 
     @Column(name = "max_images")
     private final Integer maxImages = 5;
@@ -36,15 +40,15 @@ public class Banner {
         this.description = request.description();
     }
     public boolean canAddImage() {
-        return imageUrls.size() < maxImages;
+        return images.size() < maxImages;
     }
 
-    public void addImage(String url){
-        this.imageUrls.add(url);
+    public void addImage(Image image){
+        this.images.add(image);
     }
 
     public void removeImage(String url){
-        this.imageUrls.remove(url);
+        this.images.removeIf(image -> image.getPublicUrl().equals(url));
     }
 
     public Long getId() {
@@ -52,7 +56,7 @@ public class Banner {
     }
 
     public List<String> getImageUrls() {
-        return imageUrls;
+        return images.stream().map(Image::getPublicUrl).toList();
     }
 
     public Integer getMaxImages() {
@@ -72,11 +76,11 @@ public class Banner {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Banner banner = (Banner) o;
-        return Objects.equals(id, banner.id) && Objects.equals(imageUrls, banner.imageUrls) && Objects.equals(maxImages, banner.maxImages);
+        return Objects.equals(id, banner.id) && Objects.equals(images, banner.images) && Objects.equals(maxImages, banner.maxImages);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, imageUrls, maxImages);
+        return Objects.hash(id, images, maxImages);
     }
 }
@@ -1,17 +1,25 @@
 package com.lambda.api.Entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.util.Objects;
 
 @Entity
-@Table(name = "categories")
+@Table(name = "categories", indexes = {
+        @Index(name = "idx_categories_change_seq", columnList = "change_seq")
+})
+@SQLRestriction("deleted = false")
 public class Category {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     @Column(nullable = false, unique = true)
     private String name;
+    @Column(name = "change_seq")
+    private Long changeSeq;
+    @Column(nullable = false)
+    private Boolean deleted = false;
 
     public Category (){}
     private Category (String name){
@@ -32,6 +40,23 @@ public class Category {
         return this;
     }
 
+    public void restore(long changeSeq) {
+        this.deleted = false;
+        this.changeSeq = changeSeq;
+    }
+
+    public void markChanged(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public Boolean getDeleted() {
+        return deleted;
+    }
+
     public Long getId() {
         return id;
     }
@@ -1,24 +1,43 @@
 package com.lambda.api.Entities;
 
+import com.lambda.api.Entities.valueObjects.ImageHashConverter;
+import com.lambda.api.Entities.valueObjects.ImageVariant;
+import com.lambda.api.Utils.ImageMetadata;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 
 @Entity
-@Table(name = "images")
+@Table(name = "images", indexes = {
+        @Index(name = "idx_images_public_url", columnList = "public_url")
+})
 public class Image {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
-    @Column(unique = true, nullable = false)
+    @Convert(converter = ImageHashConverter.class)
+    @Column(unique = true, nullable = false, length = 32)
     private String hash;
     @Column(name = "public_url", nullable = false)
     private String publicUrl;
     @Column(name = "public_id",nullable = false)
     private String publicId;
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+    private Integer width;
+    private Integer height;
+    @Column(columnDefinition = "text")
+    private String placeholder;
+    @JdbcTypeCode(SqlTypes.JSON)
+    private List<ImageVariant> variants = new ArrayList<>();
     @Version
     private Long version;
 
@@ -28,14 +47,31 @@ public class Image {
         this.publicUrl = publicUrl;
         this.hash = hash;
         this.publicId = publicId;
+        this.createdAt = Instant.now();
     }
 
     public static Image createImage(Map upload, String hash){
-        return new Image(
+        return createImage(upload, hash, ImageMetadata.UNKNOWN);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Image createImage(Map upload, String hash, ImageMetadata metadata){
+        Image image = new Image(
                 (String) upload.get("url"),
                 (String) upload.get("public_id"),
                 hash
         );
+        image.width = metadata.width() != null ? metadata.width() : (Integer) upload.get("width");
+        image.height = metadata.height() != null ? metadata.height() : (Integer) upload.get("height");
+        image.placeholder = metadata.placeholder();
+        image.variants = new ArrayList<>();
+        for (ImageVariant variant : (List<ImageVariant>) upload.getOrDefault("variants", List.of())) {
+            // c_limit never enlarges, so a variant as wide as the original would only duplicate it
+            if (image.width == null || variant.width() < image.width) {
+                image.variants.add(variant);
+            }
+        }
+        return image;
     }
 
     public Long getId() {
@@ -53,4 +89,20 @@ public class Image {
     public String getPublicId() {
         return publicId;
     }
+
+    public Integer getWidth() {
+        return width;
+    }
+
+    public Integer getHeight() {
+        return height;
+    }
+
+    public String getPlaceholder() {
+        return placeholder;
+    }
+
+    public List<ImageVariant> getVariants() {
+        return variants;
+    }
 }
@@ -0,0 +1,68 @@
+package com.lambda.api.Entities;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "image_deletion_outbox", indexes = {
+        @Index(name = "idx_image_deletion_outbox_next_attempt_at", columnList = "next_attempt_at")
+})
+public class ImageDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "public_id", nullable = false)
+    private String publicId;
+    @Column(nullable = false)
+    private Integer attempts = 0;
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+    @Column(name = "last_error")
+    private String lastError;
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public ImageDeletion(){}
+
+    private ImageDeletion(String publicId){
+        this.publicId = publicId;
+        this.createdAt = Instant.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    public static ImageDeletion of(String publicId){
+        return new ImageDeletion(publicId);
+    }
+
+    public void lease(Instant until){
+        this.nextAttemptAt = until;
+    }
+
+    public void retryAt(Instant nextAttemptAt, String error){
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = error != null && error.length() > 255 ? error.substring(0, 255) : error;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getPublicId() {
+        return publicId;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+}
@@ -0,0 +1,89 @@
+package com.lambda.api.Entities;
+
+import com.lambda.api.Entities.valueObjects.ImageJobStatus;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "image_jobs", indexes = {
+        @Index(name = "idx_image_jobs_status_updated_at", columnList = "status, updated_at")
+})
+public class ImageJob {
+
+    @Id
+    private UUID id;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImageJobStatus status;
+    @Column(nullable = false)
+    private String hash;
+    @Column(name = "image_id")
+    private Long imageId;
+    @Column(name = "image_url")
+    private String imageUrl;
+    private String error;
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public ImageJob(){}
+
+    private ImageJob(String hash, ImageJobStatus status){
+        this.id = UUID.randomUUID();
+        this.hash = hash;
+        this.status = status;
+        this.createdAt = Instant.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    public static ImageJob pending(String hash){
+        return new ImageJob(hash, ImageJobStatus.PENDING);
+    }
+
+    public static ImageJob completed(Image image){
+        ImageJob job = new ImageJob(image.getHash(), ImageJobStatus.COMPLETED);
+        job.imageId = image.getId();
+        job.imageUrl = image.getPublicUrl();
+        return job;
+    }
+
+    public void complete(Image image){
+        this.status = ImageJobStatus.COMPLETED;
+        this.imageId = image.getId();
+        this.imageUrl = image.getPublicUrl();
+        this.updatedAt = Instant.now();
+    }
+
+    public void fail(String error){
+        this.status = ImageJobStatus.FAILED;
+        this.error = error;
+        this.updatedAt = Instant.now();
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public ImageJobStatus getStatus() {
+        return status;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public Long getImageId() {
+        return imageId;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
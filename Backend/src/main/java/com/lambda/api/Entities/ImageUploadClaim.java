@@ -0,0 +1,34 @@
+package com.lambda.api.Entities;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "image_upload_claims", indexes = {
+        @Index(name = "idx_image_upload_claims_expires_at", columnList = "expires_at")
+})
+public class ImageUploadClaim {
+
+    @Id
+    private String hash;
+    @Column(nullable = false)
+    private UUID owner;
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    public ImageUploadClaim(){}
+
+    public String getHash() {
+        return hash;
+    }
+
+    public UUID getOwner() {
+        return owner;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
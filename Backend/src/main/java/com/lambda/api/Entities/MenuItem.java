@@ -3,6 +3,9 @@ package com.lambda.api.Entities;
 import com.lambda.api.Dtos.CreateMenuItemDTO;
 import com.lambda.api.Dtos.MenuItemUpdateDTO;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -10,7 +13,10 @@ import java.util.List;
 import java.util.Objects;
 
 @Entity
-@Table(name = "menu_item")
+@Table(name = "menu_item", indexes = {
+        @Index(name = "idx_menu_item_change_seq", columnList = "change_seq")
+})
+@SQLRestriction("deleted = false")
 public class MenuItem {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -19,49 +25,59 @@ public class MenuItem {
     private String subtitle;
     private String description;
     private int price;
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @Fetch(FetchMode.SUBSELECT)
     @CollectionTable(
             name = "menu_items",
             joinColumns = @JoinColumn(name = "menu_id")
     )
     @Column(name = "content_item")
     private List<String> contentItems = new ArrayList<>();
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "menu_images", joinColumns = @JoinColumn(name = "menu_id"))
-    @Column(name = "image_url")
-    private List<String> imageUrls = new ArrayList<>();
+    @ManyToMany(fetch = FetchType.LAZY)
+    @Fetch(FetchMode.SUBSELECT)
+    @JoinTable(
+            name = "menu_images",
+            joinColumns = @JoinColumn(name = "menu_id"),
+            inverseJoinColumns = @JoinColumn(name = "image_id"),
+            indexes = @Index(name = "idx_menu_images_image_id", columnList = "image_id")
+    )
+    private List<Image> images = new ArrayList<>();
     @Column(name = "max_images")
     private final Integer maxImages = 3;
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "category_id", nullable = false)
     private Category category;
     private Boolean available;
+    @Column(name = "change_seq")
+    private Long changeSeq;
+    @Column(nullable = false)
+    private Boolean deleted = false;
     @Version
     private Long version;
 
     public MenuItem (){}
     private MenuItem (String title, String subtitle, String description,
-                     int price, List<String> contentItems, List<String> imageUrls, Category category){
+                     int price, List<String> contentItems, List<Image> images, Category category){
         this.title = title;
         this.subtitle = subtitle;
         this.description = description;
         this.price = price;
         this.contentItems = contentItems;
-        this.imageUrls = imageUrls;
+        this.images = images;
         this.category = category;
         this.available = true;
 
     }
 
-    public static MenuItem createMenuItem(CreateMenuItemDTO request, Category category) {
+    public static MenuItem createMenuItem(CreateMenuItemDTO request, Category category, List<Image> images) {
 
         return new MenuItem(
                 request.title(), request.subtitle(), request.description(), request.price(),
-                request.contentItems(), request.imageUrls(), category
+                request.contentItems(), images, category
         );
     }
 
-    public void updateMenuItem(MenuItemUpdateDTO updateDTO, Category newCategory){
+    public void updateMenuItem(MenuItemUpdateDTO updateDTO, Category newCategory, List<Image> newImages){
 
         updateDTO.updates().forEach((field, value) -> {
             switch (field) {
@@ -75,10 +91,8 @@ public class MenuItem {
                     this.contentItems = new ArrayList<>(items);
                 }
                 case "imageUrls" -> {
-                    @SuppressWarnings("unchecked")
-                    List<String> newImages = (List<String>) value;
                     if (newImages.size() <= maxImages) {
-                        this.imageUrls = newImages;
+                        this.images = new ArrayList<>(newImages);
                     } else {
                         throw new IllegalArgumentException(
                                 "Number of images exceeds the maximum allowed: " + maxImages
@@ -97,15 +111,27 @@ public class MenuItem {
     }
 
     public boolean canAddImage() {
-        return imageUrls.size() < maxImages;
+        return images.size() < maxImages;
     }
 
-    public void addImage(String url){
-        this.imageUrls.add(url);
+    public void addImage(Image image){
+        this.images.add(image);
     }
 
     public void removeImage(String url){
-        this.imageUrls.remove(url);
+        this.images.removeIf(image -> image.getPublicUrl().equals(url));
+    }
+
+    public void markChanged(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public Boolean getDeleted() {
+        return deleted;
     }
 
     public void updateContentItems(List<String> contentItems) { this.contentItems = contentItems; }
@@ -135,7 +161,11 @@ public class MenuItem {
     }
 
     public List<String> getImageUrls() {
-        return Collections.unmodifiableList(imageUrls);
+        return images.stream().map(Image::getPublicUrl).toList();
+    }
+
+    public List<Image> getImages() {
+        return Collections.unmodifiableList(images);
     }
 
     public Integer getMaxImages() {
@@ -151,11 +181,11 @@ public class MenuItem {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         MenuItem menuItem = (MenuItem) o;
-        return price == menuItem.price && Objects.equals(id, menuItem.id) && Objects.equals(title, menuItem.title) && Objects.equals(subtitle, menuItem.subtitle) && Objects.equals(description, menuItem.description) && Objects.equals(contentItems, menuItem.contentItems) && Objects.equals(imageUrls, menuItem.imageUrls) && Objects.equals(maxImages, menuItem.maxImages) && category == menuItem.category && Objects.equals(version, menuItem.version);
+        return price == menuItem.price && Objects.equals(id, menuItem.id) && Objects.equals(title, menuItem.title) && Objects.equals(subtitle, menuItem.subtitle) && Objects.equals(description, menuItem.description) && Objects.equals(contentItems, menuItem.contentItems) && Objects.equals(images, menuItem.images) && Objects.equals(maxImages, menuItem.maxImages) && category == menuItem.category && Objects.equals(version, menuItem.version);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, title, subtitle, description, price, contentItems, imageUrls, maxImages, category, version);
+        return Objects.hash(id, title, subtitle, description, price, contentItems, images, maxImages, category, version);
     }
 }
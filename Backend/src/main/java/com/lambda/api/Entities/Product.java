@@ -4,9 +4,16 @@ import com.lambda.api.Dtos.CreateProductDTO;
 import com.lambda.api.Dtos.ProductUpdateDTO;
 import com.lambda.api.Entities.valueObjects.UnitOfMeasure;
 import jakarta.persistence.*;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_available_id", columnList = "available, id"),
+        @Index(name = "idx_products_price", columnList = "price"),
+        @Index(name = "idx_products_cost", columnList = "cost"),
+        @Index(name = "idx_products_change_seq", columnList = "change_seq")
+})
+@SQLRestriction("deleted = false")
 public class Product {
 
     @Id
@@ -27,6 +34,10 @@ public class Product {
     @Column(name = "min_order")
     private Integer minimumOrder;
     private Boolean available;
+    @Column(name = "change_seq")
+    private Long changeSeq;
+    @Column(nullable = false)
+    private Boolean deleted = false;
     @Version
     private Long version;
 
@@ -110,6 +121,18 @@ public class Product {
         }
     }
 
+    public void markChanged(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public Boolean getDeleted() {
+        return deleted;
+    }
+
     private static double roundToTwoDecimals(double value) {
         return Math.round(value * 100.0) / 100.0;
     }
@@ -10,6 +10,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.UUID;
 
 @Entity
 @Table(name = "users")
@@ -23,6 +24,8 @@ public class User implements UserDetails {
     @Enumerated(EnumType.STRING)
     @Column(name="rol", nullable = false)
     private UserRole userRole;
+    @Column(name = "security_stamp", nullable = false, length = 36)
+    private String securityStamp;
     @Column(name = "created_at", updatable = false)
     @CreationTimestamp
     private LocalDateTime createdAt;
@@ -36,12 +39,23 @@ public class User implements UserDetails {
         this.password = password;
         this.createdAt = LocalDateTime.now();
         this.userRole = UserRole.ADMIN;
+        this.securityStamp = UUID.randomUUID().toString();
     }
     public static User createUser(String email, String password){
 
         return new User(email, password);
     }
 
+    // Tokens carry the stamp; rotating it revokes every token issued before the change.
+    public void changePassword(String encodedPassword){
+        this.password = encodedPassword;
+        rotateSecurityStamp();
+    }
+
+    public void rotateSecurityStamp(){
+        this.securityStamp = UUID.randomUUID().toString();
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
 
@@ -90,4 +104,7 @@ public class User implements UserDetails {
     public UserRole getRol() {
         return userRole;
     }
+    public String getSecurityStamp() {
+        return securityStamp;
+    }
 }
@@ -0,0 +1,8 @@
+package com.lambda.api.Entities.valueObjects;
+
+
+public enum ImageBatchStatus {
+    CREATED,
+    EXISTING,
+    FAILED
+}
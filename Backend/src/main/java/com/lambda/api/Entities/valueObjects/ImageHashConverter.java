@@ -0,0 +1,24 @@
+package com.lambda.api.Entities.valueObjects;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Base64;
+
+/**
+ * Image hashes travel as Base64 text in the API and job rows, but are stored as the raw 32-byte
+ * SHA-256, which keeps the unique index a quarter smaller and compares bytes instead of collated text.
+ */
+@Converter
+public class ImageHashConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String hash) {
+        return hash == null ? null : Base64.getDecoder().decode(hash);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] hash) {
+        return hash == null ? null : Base64.getEncoder().encodeToString(hash);
+    }
+}
@@ -0,0 +1,4 @@
+package com.lambda.api.Entities.valueObjects;
+
+public record ImageVariant(int width, String url) {
+}
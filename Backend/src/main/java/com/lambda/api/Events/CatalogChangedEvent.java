@@ -0,0 +1,12 @@
+package com.lambda.api.Events;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+public record CatalogChangedEvent(Set<CatalogSection> sections) {
+
+    public static CatalogChangedEvent of(CatalogSection first, CatalogSection... rest) {
+
+        return new CatalogChangedEvent(EnumSet.of(first, rest));
+    }
+}
@@ -0,0 +1,10 @@
+package com.lambda.api.Events;
+
+public enum CatalogSection {
+    MENU,
+    CATEGORIES,
+    BANNER,
+    BUSINESS_INFO,
+    ABOUT,
+    PRODUCTS
+}
@@ -15,6 +15,6 @@ public interface BannerRepository extends JpaRepository<Banner, Long> {
     Optional<Banner> findBanner();
 
     @Query("SELECT CASE WHEN COUNT(b) > 0 THEN TRUE ELSE FALSE END " +
-            "FROM Banner b JOIN b.imageUrls urls WHERE urls = :publicUrl")
-    boolean existsByImageUrl(@Param("publicUrl") String publicUrl);
+            "FROM Banner b JOIN b.images img WHERE img.id = :imageId")
+    boolean existsByImageId(@Param("imageId") Long imageId);
 }
@@ -1,5 +1,6 @@
 package com.lambda.api.Repositories;
 
+import com.lambda.api.Dtos.CategoryDTO;
 import com.lambda.api.Entities.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -8,16 +9,26 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category,Long> {
     boolean existsByName(String name);
 
-    @Query(value = "SELECT * FROM categories", nativeQuery = true)
+    @Query(value = "SELECT * FROM categories WHERE deleted = false", nativeQuery = true)
     List<Category> findAllCategories();
 
+    @Query("SELECT new com.lambda.api.Dtos.CategoryDTO(c.id, c.name) FROM Category c")
+    List<CategoryDTO> findAllCategoryDtos();
+
     @Modifying
-    @Query("DELETE FROM Category c WHERE c.id = :id")
-    int deleteByIdIfExists(@Param("id") Long id);
+    @Query("UPDATE Category c SET c.deleted = TRUE, c.changeSeq = :changeSeq WHERE c.id = :id AND c.deleted = FALSE")
+    int softDeleteById(@Param("id") Long id, @Param("changeSeq") long changeSeq);
+
+    @Query(value = "SELECT * FROM categories WHERE name = :name AND deleted = true", nativeQuery = true)
+    Optional<Category> findDeletedByName(@Param("name") String name);
+
+    @Query(value = "SELECT * FROM categories WHERE change_seq > :since ORDER BY change_seq", nativeQuery = true)
+    List<Category> findChangesSince(@Param("since") long since);
 
 }
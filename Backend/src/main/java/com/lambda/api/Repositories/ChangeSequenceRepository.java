@@ -0,0 +1,30 @@
+package com.lambda.api.Repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Hands out values from the database-wide catalog_change_seq, so change tokens stay
+ * monotonic across every instance writing to the catalog.
+ * Each value is taken under a transaction-scoped advisory lock that is held until the writer
+ * commits, so values become visible in the order they were handed out. A reader therefore never
+ * sees a value while a smaller one is still uncommitted, and its token cannot skip that write.
+ */
+@Repository
+public class ChangeSequenceRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public long nextChangeSeq() {
+
+        entityManager
+                .createNativeQuery("SELECT 1 FROM pg_advisory_xact_lock('catalog_change_seq'::regclass::oid::bigint)")
+                .getSingleResult();
+        Number next = (Number) entityManager
+                .createNativeQuery("SELECT nextval('catalog_change_seq')")
+                .getSingleResult();
+        return next.longValue();
+    }
+}
@@ -0,0 +1,19 @@
+package com.lambda.api.Repositories;
+
+import com.lambda.api.Entities.ImageDeletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface ImageDeletionRepository extends JpaRepository<ImageDeletion, Long> {
+
+    // SKIP LOCKED lets concurrent pollers claim disjoint batches instead of blocking on each other.
+    @Query(value = "SELECT * FROM image_deletion_outbox WHERE next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<ImageDeletion> findDueForUpdate(@Param("now") Instant now, @Param("limit") int limit);
+}
@@ -0,0 +1,29 @@
+package com.lambda.api.Repositories;
+
+import com.lambda.api.Entities.ImageJob;
+import com.lambda.api.Entities.valueObjects.ImageJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Repository
+public interface ImageJobRepository extends JpaRepository<ImageJob, UUID> {
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImageJob j SET j.status = :failed, j.error = :error, j.updatedAt = :now " +
+            "WHERE j.status = :pending AND j.updatedAt < :cutoff")
+    int failStaleJobs(@Param("pending") ImageJobStatus pending, @Param("failed") ImageJobStatus failed,
+                      @Param("error") String error, @Param("cutoff") Instant cutoff, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ImageJob j WHERE j.status <> :pending AND j.updatedAt < :cutoff")
+    int deleteFinishedBefore(@Param("pending") ImageJobStatus pending, @Param("cutoff") Instant cutoff);
+}
@@ -1,22 +1,62 @@
 package com.lambda.api.Repositories;
 
+import com.lambda.api.Dtos.ImageDTO;
 import com.lambda.api.Entities.Image;
 import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ImageRepository extends JpaRepository<Image,Long> {
 
-    @Query(value = "SELECT * FROM images WHERE hash = :hash", nativeQuery = true)
+    @Query("SELECT i FROM Image i WHERE i.hash = :hash")
     Optional<Image> findByHash(@Param("hash") String hash);
 
-    @Query(value = "SELECT EXISTS(SELECT 1 FROM images WHERE public_url = :url)", nativeQuery = true)
-    boolean existsByPublicUrl(@Param("url") String url);
+    // Read through a cursor in fetch-size chunks; the caller must keep a transaction open while consuming it.
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query(value = "SELECT hash FROM images", nativeQuery = true)
+    Stream<byte[]> streamAllHashes();
+
+    Optional<Image> findByPublicUrl(String publicUrl);
+
+    List<Image> findAllByPublicUrlIn(Collection<String> publicUrls);
+
+    List<Image> findAllByHashIn(Collection<String> hashes);
+
+    // One multi-row statement; IDENTITY ids rule out JDBC batching through the persistence context.
+    @Modifying
+    @Query(value = "INSERT INTO images (hash, public_url, public_id, width, height, placeholder, variants, created_at, version) " +
+            "SELECT decode(t.hash, 'base64'), t.url, t.public_id, t.width, t.height, t.placeholder, CAST(t.variants AS jsonb), now(), 0 " +
+            "FROM unnest(CAST(:hashes AS text[]), CAST(:urls AS text[]), CAST(:publicIds AS text[]), " +
+            "CAST(:widths AS int[]), CAST(:heights AS int[]), CAST(:placeholders AS text[]), CAST(:variants AS text[])) " +
+            "AS t(hash, url, public_id, width, height, placeholder, variants) " +
+            "ON CONFLICT (hash) DO NOTHING", nativeQuery = true)
+    int insertAll(@Param("hashes") String[] hashes, @Param("urls") String[] urls, @Param("publicIds") String[] publicIds,
+                  @Param("widths") Integer[] widths, @Param("heights") Integer[] heights,
+                  @Param("placeholders") String[] placeholders, @Param("variants") String[] variants);
+
+    @Query("SELECT new com.lambda.api.Dtos.ImageDTO(i.id, i.publicUrl, i.width, i.height, i.placeholder, i.variants) FROM Image i")
+    List<ImageDTO> findAllImageDtos();
+
+    String REFERENCED_IMAGE =
+            "EXISTS (SELECT 1 FROM menu_images mi JOIN menu_item m ON m.id = mi.menu_id " +
+            "WHERE mi.image_id = i.id AND m.deleted = false) " +
+            "OR EXISTS (SELECT 1 FROM banner_images bi WHERE bi.image_id = i.id)";
+
+    @Query(value = "SELECT i.id FROM images i WHERE i.id IN (:ids) AND (" + REFERENCED_IMAGE + ")", nativeQuery = true)
+    List<Long> findReferencedIds(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "SELECT * FROM images i WHERE i.created_at < :cutoff AND NOT (" + REFERENCED_IMAGE + ") " +
+            "ORDER BY i.id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Image> findOrphansForUpdate(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
 }
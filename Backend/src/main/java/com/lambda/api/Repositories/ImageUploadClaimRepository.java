@@ -0,0 +1,33 @@
+package com.lambda.api.Repositories;
+
+import com.lambda.api.Entities.ImageUploadClaim;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Repository
+public interface ImageUploadClaimRepository extends JpaRepository<ImageUploadClaim, String> {
+
+    // Of all concurrent callers only one inserts the row; the others get 0 back.
+    @Modifying
+    @Query(value = "INSERT INTO image_upload_claims (hash, owner, expires_at) VALUES (:hash, :owner, :expiresAt) " +
+            "ON CONFLICT (hash) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("hash") String hash, @Param("owner") UUID owner, @Param("expiresAt") Instant expiresAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM image_upload_claims WHERE hash = :hash AND expires_at < :now", nativeQuery = true)
+    int deleteExpired(@Param("hash") String hash, @Param("now") Instant now);
+
+    @Modifying
+    @Query(value = "DELETE FROM image_upload_claims WHERE hash = :hash AND owner = :owner", nativeQuery = true)
+    int deleteOwned(@Param("hash") String hash, @Param("owner") UUID owner);
+
+    @Modifying
+    @Query(value = "DELETE FROM image_upload_claims WHERE expires_at < :now", nativeQuery = true)
+    int deleteAllExpired(@Param("now") Instant now);
+}
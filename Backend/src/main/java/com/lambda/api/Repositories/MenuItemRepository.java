@@ -1,5 +1,6 @@
 package com.lambda.api.Repositories;
 
+import com.lambda.api.Dtos.MenuItemSummaryDTO;
 import com.lambda.api.Entities.MenuItem;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -7,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,14 +18,48 @@ public interface MenuItemRepository extends JpaRepository<MenuItem, Long> {
     @Query("SELECT mi FROM MenuItem mi JOIN FETCH mi.category")
     List<MenuItem> findAllMenuItems();
 
+    @Query("SELECT new com.lambda.api.Dtos.MenuItemSummaryDTO(mi.id, mi.title, mi.subtitle, mi.description, " +
+            "mi.price, c.name, c.id) FROM MenuItem mi JOIN mi.category c")
+    List<MenuItemSummaryDTO> findAllMenuItemSummaries();
+
+    @Query("SELECT mi.id, item FROM MenuItem mi JOIN mi.contentItems item")
+    List<Object[]> findAllContentItems();
+
+    String MENU_IMAGE_COLUMNS = "mi.id, img.id, img.publicUrl, img.width, img.height, img.placeholder, img.variants";
+
+    @Query("SELECT " + MENU_IMAGE_COLUMNS + " FROM MenuItem mi JOIN mi.images img")
+    List<Object[]> findAllImages();
+
+    @Modifying
+    @Query("UPDATE MenuItem mi SET mi.deleted = TRUE, mi.changeSeq = :changeSeq WHERE mi.id = :id AND mi.deleted = FALSE")
+    int softDeleteById(@Param("id") Long id, @Param("changeSeq") long changeSeq);
+
     @Modifying
-    @Query("DELETE FROM MenuItem mi WHERE mi.id = :id")
-    int deleteByIdIfExists(@Param("id") Long id);
+    @Query("UPDATE MenuItem mi SET mi.changeSeq = :changeSeq WHERE mi.category.id = :categoryId AND mi.deleted = FALSE")
+    int markChangedByCategoryId(@Param("categoryId") Long categoryId, @Param("changeSeq") long changeSeq);
+
+    boolean existsByCategory_Id(Long categoryId);
+
+    // Native on purpose: tombstones must bypass the deleted = false restriction.
+    @Query(value = "SELECT mi.id, mi.title, mi.subtitle, mi.description, mi.price, c.name, c.id, " +
+            "mi.deleted, mi.change_seq FROM menu_item mi JOIN categories c ON c.id = mi.category_id " +
+            "WHERE mi.change_seq > :since ORDER BY mi.change_seq", nativeQuery = true)
+    List<Object[]> findMenuItemChangesSince(@Param("since") long since);
+
+    @Query("SELECT mi.id, item FROM MenuItem mi JOIN mi.contentItems item WHERE mi.id IN :ids")
+    List<Object[]> findContentItemsByMenuIds(@Param("ids") List<Long> ids);
+
+    @Query("SELECT " + MENU_IMAGE_COLUMNS + " FROM MenuItem mi JOIN mi.images img WHERE mi.id IN :ids")
+    List<Object[]> findImagesByMenuIds(@Param("ids") List<Long> ids);
 
     @Query("SELECT CASE WHEN COUNT(mi) > 0 THEN TRUE ELSE FALSE END " +
-            "FROM MenuItem mi " +
-            "WHERE :publicUrl MEMBER OF mi.imageUrls")
-    boolean existsByImageUrl(@Param("publicUrl") String publicUrl);
+            "FROM MenuItem mi JOIN mi.images img WHERE img.id = :imageId")
+    boolean existsByImageId(@Param("imageId") Long imageId);
+
+    // Soft-deleted menu items still hold their join rows; they must go before the image itself.
+    @Modifying
+    @Query(value = "DELETE FROM menu_images WHERE image_id IN (:imageIds)", nativeQuery = true)
+    int detachImages(@Param("imageIds") Collection<Long> imageIds);
 
     @Query("SELECT CASE WHEN COUNT(mi) > 0 THEN TRUE ELSE FALSE END FROM MenuItem mi")
     boolean existsAnyMenuItem();
@@ -1,13 +1,48 @@
 package com.lambda.api.Repositories;
 
+import com.lambda.api.Dtos.ProductDTO;
 import com.lambda.api.Entities.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductSearchRepository {
     Page<Product> findByAvailableTrue(Pageable pageable);
 
+    String PRODUCT_DTO_SELECT = "SELECT new com.lambda.api.Dtos.ProductDTO(p.id, p.name, p.unitOfMeasure, " +
+            "p.quantity, p.purchaseCost, p.cost, p.profitMargin, p.price, p.minimumOrder, p.available) " +
+            "FROM Product p ";
+
+    @Query(PRODUCT_DTO_SELECT + "WHERE p.id = :id")
+    Optional<ProductDTO> findProductDtoById(@Param("id") Long id);
+
+    @Query(value = PRODUCT_DTO_SELECT + "WHERE p.available = TRUE",
+            countQuery = "SELECT COUNT(p) FROM Product p WHERE p.available = TRUE")
+    Page<ProductDTO> findAvailableProductDtos(Pageable pageable);
+
+    @Query(value = PRODUCT_DTO_SELECT,
+            countQuery = "SELECT COUNT(p) FROM Product p")
+    Page<ProductDTO> findAllProductDtos(Pageable pageable);
+
+    @Query(PRODUCT_DTO_SELECT + "WHERE p.available = TRUE AND p.id > :afterId ORDER BY p.id")
+    Slice<ProductDTO> findAvailableProductDtosAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(PRODUCT_DTO_SELECT + "WHERE p.id > :afterId ORDER BY p.id")
+    Slice<ProductDTO> findAllProductDtosAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Product p SET p.deleted = TRUE, p.changeSeq = :changeSeq WHERE p.id = :id AND p.deleted = FALSE")
+    int softDeleteById(@Param("id") Long id, @Param("changeSeq") long changeSeq);
+
+    @Query(value = "SELECT * FROM products WHERE change_seq > :since ORDER BY change_seq", nativeQuery = true)
+    List<Product> findChangesSince(@Param("since") long since);
 }
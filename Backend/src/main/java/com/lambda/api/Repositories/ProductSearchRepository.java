@@ -0,0 +1,13 @@
+package com.lambda.api.Repositories;
+
+import com.lambda.api.Dtos.ProductDTO;
+import com.lambda.api.Entities.valueObjects.UnitOfMeasure;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface ProductSearchRepository {
+
+    Page<ProductDTO> searchProductDtos(String namePattern, UnitOfMeasure unitOfMeasure, Boolean available,
+                                       Double minPrice, Double maxPrice, Double minCost, Double maxCost,
+                                       Pageable pageable);
+}
@@ -0,0 +1,96 @@
+package com.lambda.api.Repositories;
+
+import com.lambda.api.Dtos.ProductDTO;
+import com.lambda.api.Entities.Product;
+import com.lambda.api.Entities.valueObjects.UnitOfMeasure;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the search with only the filters the request sets, so each combination gets its own
+ * statement and plan and the name, price and cost indexes stay usable.
+ */
+public class ProductSearchRepositoryImpl implements ProductSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ProductDTO> searchProductDtos(String namePattern, UnitOfMeasure unitOfMeasure, Boolean available,
+                                              Double minPrice, Double maxPrice, Double minCost, Double maxCost,
+                                              Pageable pageable) {
+
+        SearchFilter filter = new SearchFilter(namePattern, unitOfMeasure, available, minPrice, maxPrice, minCost, maxCost);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<ProductDTO> query = cb.createQuery(ProductDTO.class);
+        Root<Product> product = query.from(Product.class);
+        query.select(cb.construct(ProductDTO.class,
+                product.get("id"), product.get("name"), product.get("unitOfMeasure"),
+                product.get("quantity"), product.get("purchaseCost"), product.get("cost"),
+                product.get("profitMargin"), product.get("price"), product.get("minimumOrder"),
+                product.get("available")));
+        query.where(filter.toPredicates(cb, product));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), product, cb));
+
+        List<ProductDTO> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(cb, filter));
+    }
+
+    private long count(CriteriaBuilder cb, SearchFilter filter) {
+
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Product> product = query.from(Product.class);
+        query.select(cb.count(product));
+        query.where(filter.toPredicates(cb, product));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private record SearchFilter(String namePattern, UnitOfMeasure unitOfMeasure, Boolean available,
+                                Double minPrice, Double maxPrice, Double minCost, Double maxCost) {
+
+        Predicate[] toPredicates(CriteriaBuilder cb, Root<Product> product) {
+
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (namePattern != null) {
+                predicates.add(cb.like(cb.lower(product.get("name")), namePattern, '\\'));
+            }
+            if (unitOfMeasure != null) {
+                predicates.add(cb.equal(product.get("unitOfMeasure"), unitOfMeasure));
+            }
+            if (available != null) {
+                predicates.add(cb.equal(product.get("available"), available));
+            }
+            if (minPrice != null) {
+                predicates.add(cb.greaterThanOrEqualTo(product.get("price"), minPrice));
+            }
+            if (maxPrice != null) {
+                predicates.add(cb.lessThanOrEqualTo(product.get("price"), maxPrice));
+            }
+            if (minCost != null) {
+                predicates.add(cb.greaterThanOrEqualTo(product.get("cost"), minCost));
+            }
+            if (maxCost != null) {
+                predicates.add(cb.lessThanOrEqualTo(product.get("cost"), maxCost));
+            }
+            return predicates.toArray(Predicate[]::new);
+        }
+    }
+}
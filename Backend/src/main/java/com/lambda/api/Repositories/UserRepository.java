@@ -13,4 +13,7 @@ public interface UserRepository extends JpaRepository<User,Long> {
 
     @Query(value = "SELECT * FROM users WHERE email = :email", nativeQuery = true)
     Optional<User> findByEmail(@Param("email") String email);
+
+    @Query(value = "SELECT security_stamp FROM users WHERE user_id = :userId", nativeQuery = true)
+    Optional<String> findSecurityStampById(@Param("userId") Long userId);
 }
@@ -0,0 +1,7 @@
+package com.lambda.api.Security;
+
+public enum RouteAccess {
+    PUBLIC,
+    AUTHENTICATED,
+    ADMIN
+}
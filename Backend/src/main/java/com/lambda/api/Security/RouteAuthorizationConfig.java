@@ -0,0 +1,55 @@
+package com.lambda.api.Security;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RouteAuthorizationConfig {
+
+    @Bean
+    public RouteAuthorizationTable routeAuthorizationTable() {
+        return RouteAuthorizationTable.builder()
+                .publicRoute("/api/user/login")
+                .publicRoute("/api/business/info")
+                .publicRoute("/api/banner")
+                .publicRoute("/api/category/all")
+                .publicRoute("/api/menu/all")
+                .publicRoute("GET", "/api/menu/changes")
+                .publicRoute("GET", "/api/category/changes")
+                .publicRoute("GET", "/api/catalog/events")
+                .publicRoute("/api/product")
+                .publicRoute("GET", "/api/product/scroll")
+                .publicRoute("GET", "/api/product/changes")
+                .publicRoute("GET", "/api/about")
+                .publicRoute("GET", "/api/image/files/{key}")
+                .adminRoute("/api/user/create")
+                .adminRoute("PUT", "/api/user/password")
+                .adminRoute("/api/image/create")
+                .adminRoute("/api/image/upload")
+                .adminRoute("POST", "/api/image/upload/signature")
+                .adminRoute("POST", "/api/image/upload/complete")
+                .adminRoute("POST", "/api/image/batch")
+                .adminRoute("GET", "/api/image/jobs/{id}")
+                .adminRoute("/api/image/delete/{id}")
+                .adminRoute("DELETE", "/api/image/delete")
+                .adminRoute("/api/image/all")
+                .adminRoute("/api/business/update")
+                .adminRoute("/api/banner/images")
+                .adminRoute("/api/banner/update")
+                .adminRoute("/api/category/create")
+                .adminRoute("/api/category/delete/{id}")
+                .adminRoute("/api/category/update/{id}")
+                .adminRoute("/api/menu/create")
+                .adminRoute("/api/menu/delete/{id}")
+                .adminRoute("/api/menu/update")
+                .adminRoute("/api/product/create")
+                .adminRoute("/api/product/{id}")
+                .adminRoute("GET", "/api/product/all")
+                .adminRoute("GET", "/api/product/all/scroll")
+                .adminRoute("GET", "/api/product/all/changes")
+                .adminRoute("/api/about/update")
+                .adminRoute("/api/cache/stats")
+                .adminRoute("GET", "/api/cache/image-hashes")
+                .build();
+    }
+}
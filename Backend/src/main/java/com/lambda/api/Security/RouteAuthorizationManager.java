@@ -0,0 +1,33 @@
+package com.lambda.api.Security;
+
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.function.Supplier;
+
+public class RouteAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+
+    private final RouteAuthorizationTable routes;
+    private final AuthorizationManager<RequestAuthorizationContext> authenticated = AuthenticatedAuthorizationManager.authenticated();
+    private final AuthorizationManager<RequestAuthorizationContext> admin = AuthorityAuthorizationManager.hasRole("ADMIN");
+
+    public RouteAuthorizationManager(RouteAuthorizationTable routes) {
+        this.routes = routes;
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+
+        return switch (routes.resolve(context.getRequest())) {
+            case PUBLIC -> GRANTED;
+            case ADMIN -> admin.check(authentication, context);
+            case AUTHENTICATED -> authenticated.check(authentication, context);
+        };
+    }
+}
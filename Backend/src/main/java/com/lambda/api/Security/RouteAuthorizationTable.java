@@ -0,0 +1,150 @@
+package com.lambda.api.Security;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Route access levels compiled into a trie of path segments, so a request is resolved in one walk
+ * down its path instead of being tried against every pattern in turn.
+ * Literal segments win over {@code {variable}} segments, a method-specific route wins over an
+ * any-method one, and when the same route is registered twice the first registration wins.
+ * Paths that match no route need an authenticated user.
+ */
+public class RouteAuthorizationTable {
+
+    private static final String RESOLVED_ATTRIBUTE = RouteAuthorizationTable.class.getName() + ".RESOLVED";
+
+    private final Node root;
+
+    private RouteAuthorizationTable(Node root) {
+        this.root = root;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Memoized on the request, since the JWT filter and the authorization check both ask;
+    // forwards and error dispatches change the path, so only the original dispatch is memoized.
+    public RouteAccess resolve(HttpServletRequest request) {
+
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return resolve(request.getMethod(), requestPath(request));
+        }
+
+        Object resolved = request.getAttribute(RESOLVED_ATTRIBUTE);
+        if (resolved instanceof RouteAccess access) {
+            return access;
+        }
+        RouteAccess access = resolve(request.getMethod(), requestPath(request));
+        request.setAttribute(RESOLVED_ATTRIBUTE, access);
+        return access;
+    }
+
+    public RouteAccess resolve(String method, String path) {
+
+        RouteAccess access = match(root, segmentsOf(path), 0, method);
+        return access != null ? access : RouteAccess.AUTHENTICATED;
+    }
+
+    private RouteAccess match(Node node, String[] segments, int index, String method) {
+
+        if (index == segments.length) {
+            RouteAccess access = node.byMethod.get(method);
+            return access != null ? access : node.anyMethod;
+        }
+
+        String segment = segments[index];
+        Node literal = node.literals.get(segment);
+        if (literal != null) {
+            RouteAccess access = match(literal, segments, index + 1, method);
+            if (access != null) {
+                return access;
+            }
+        }
+        if (node.variable != null && !segment.isEmpty()) {
+            return match(node.variable, segments, index + 1, method);
+        }
+        return null;
+    }
+
+    // Same path the Ant matchers used: servlet path plus path info.
+    private static String requestPath(HttpServletRequest request) {
+
+        String path = request.getServletPath();
+        String pathInfo = request.getPathInfo();
+        if (pathInfo != null) {
+            path = path == null || path.isEmpty() ? pathInfo : path + pathInfo;
+        }
+        return path;
+    }
+
+    // A trailing slash is kept as an empty last segment, so "/api/menu/all/" is not "/api/menu/all".
+    private static String[] segmentsOf(String path) {
+
+        String trimmed = path.startsWith("/") ? path.substring(1) : path;
+        return trimmed.split("/", -1);
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private final Map<String, RouteAccess> byMethod = new HashMap<>();
+        private Node variable;
+        private RouteAccess anyMethod;
+    }
+
+    public static final class Builder {
+
+        private final Node root = new Node();
+
+        private Builder() {
+        }
+
+        public Builder publicRoute(String pattern) {
+            return route(null, pattern, RouteAccess.PUBLIC);
+        }
+
+        public Builder publicRoute(String method, String pattern) {
+            return route(method, pattern, RouteAccess.PUBLIC);
+        }
+
+        public Builder adminRoute(String pattern) {
+            return route(null, pattern, RouteAccess.ADMIN);
+        }
+
+        public Builder adminRoute(String method, String pattern) {
+            return route(method, pattern, RouteAccess.ADMIN);
+        }
+
+        public Builder route(String method, String pattern, RouteAccess access) {
+
+            Node node = root;
+            for (String segment : segmentsOf(pattern)) {
+                if (segment.startsWith("{") && segment.endsWith("}")) {
+                    if (node.variable == null) {
+                        node.variable = new Node();
+                    }
+                    node = node.variable;
+                } else {
+                    node = node.literals.computeIfAbsent(segment, key -> new Node());
+                }
+            }
+
+            if (method == null) {
+                if (node.anyMethod == null) {
+                    node.anyMethod = access;
+                }
+            } else {
+                node.byMethod.putIfAbsent(method, access);
+            }
+            return this;
+        }
+
+        public RouteAuthorizationTable build() {
+            return new RouteAuthorizationTable(root);
+        }
+    }
+}
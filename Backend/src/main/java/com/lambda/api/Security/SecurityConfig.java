@@ -16,9 +16,6 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.security.web.context.DelegatingSecurityContextRepository;
 import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
 import org.springframework.security.web.context.SecurityContextRepository;
-import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
-import org.springframework.security.web.util.matcher.OrRequestMatcher;
-import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -33,12 +30,15 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final FunctionURL functionURL;
     private final FrontendURL frontendURL;
+    private final RouteAuthorizationTable routeAuthorizationTable;
 
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthFilter, FunctionURL functionURL, FrontendURL frontendURL) {
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthFilter, FunctionURL functionURL, FrontendURL frontendURL,
+                          RouteAuthorizationTable routeAuthorizationTable) {
         this.jwtAuthFilter = jwtAuthFilter;
         this.functionURL = functionURL;
         this.frontendURL = frontendURL;
+        this.routeAuthorizationTable = routeAuthorizationTable;
     }
 
 
@@ -53,8 +53,11 @@ public class SecurityConfig {
                 "Accept",
                 "Origin",
                 "Access-Control-Request-Method",
-                "Access-Control-Request-Headers"
+                "Access-Control-Request-Headers",
+                "If-None-Match",
+                "Last-Event-ID"
         ));
+        configuration.setExposedHeaders(Arrays.asList("ETag", "Location"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
@@ -63,35 +66,6 @@ public class SecurityConfig {
         return source;
     }
 
-    RequestMatcher publicUrls = new OrRequestMatcher(
-            new AntPathRequestMatcher("/api/user/login"),
-            new AntPathRequestMatcher("/api/business/info"),
-            new AntPathRequestMatcher("/api/banner"),
-            new AntPathRequestMatcher("/api/category/all"),
-            new AntPathRequestMatcher("/api/menu/all"),
-            new AntPathRequestMatcher("/api/product"),
-            new AntPathRequestMatcher("/api/about", "GET")
-    );
-    RequestMatcher adminUrls = new OrRequestMatcher(
-            new AntPathRequestMatcher("/api/user/create"),
-            new AntPathRequestMatcher("/api/image/create"),
-            new AntPathRequestMatcher("/api/image/delete/{id}"),
-            new AntPathRequestMatcher("/api/image/all"),
-            new AntPathRequestMatcher("/api/business/update"),
-            new AntPathRequestMatcher("/api/banner/images"),
-            new AntPathRequestMatcher("/api/banner/update"),
-            new AntPathRequestMatcher("/api/category/create"),
-            new AntPathRequestMatcher("/api/category/delete/{id}"),
-            new AntPathRequestMatcher("/api/category/update/{id}"),
-            new AntPathRequestMatcher("/api/menu/create"),
-            new AntPathRequestMatcher("/api/menu/delete/{id}"),
-            new AntPathRequestMatcher("/api/menu/update"),
-            new AntPathRequestMatcher("/api/product/create"),
-            new AntPathRequestMatcher("/api/product/{id}"),
-            new AntPathRequestMatcher("/api/product/all", "GET"),
-            new AntPathRequestMatcher("/api/about/update")
-    );
-
 
     @Bean
     @Lazy
@@ -115,11 +89,8 @@ public class SecurityConfig {
                                 ))
                 )
                 .authorizeHttpRequests((authorize) -> authorize
-                        .requestMatchers(publicUrls)
-                        .permitAll()
-                        .requestMatchers(adminUrls).hasRole("ADMIN")
                         .anyRequest()
-                        .authenticated()
+                        .access(new RouteAuthorizationManager(routeAuthorizationTable))
                 )
                 .sessionManagement(session ->
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -1,12 +1,16 @@
 package com.lambda.api.Security.jwt;
 
+import com.lambda.api.Security.RouteAccess;
+import com.lambda.api.Security.RouteAuthorizationTable;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,46 +21,81 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final SecurityStampService securityStampService;
+    private final RouteAuthorizationTable routeAuthorizationTable;
 
     private final SecurityContextRepository securityContextRepository;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService, @Lazy SecurityContextRepository securityContextRepository) {
+    // Stateless mode trusts the signed claims and only checks the cached security stamp.
+    @Value("${JWT_STATELESS:true}")
+    private boolean stateless;
+
+    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService,
+                                   SecurityStampService securityStampService, RouteAuthorizationTable routeAuthorizationTable,
+                                   @Lazy SecurityContextRepository securityContextRepository) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.securityStampService = securityStampService;
+        this.routeAuthorizationTable = routeAuthorizationTable;
         this.securityContextRepository = securityContextRepository;
     }
 
 
+    // Public routes never look at the token, so they skip parsing and the stamp check altogether.
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+
+        return routeAuthorizationTable.resolve(request) == RouteAccess.PUBLIC;
+    }
+
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
                                     @NonNull HttpServletResponse response,
                                     @NonNull FilterChain filterChain) throws ServletException, IOException
     {
         final String authHeader = request.getHeader("Authorization");
-        System.out.println("Authorization Header: " + authHeader);
         final String jwt;
-        final String username;
+        final VerifiedToken token;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            System.out.println("Auth header vino fallido: " + authHeader);
             filterChain.doFilter(request, response);
             return;
         }
 
             jwt = authHeader.substring(7);
-            username = jwtService.extractUsername(jwt);
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        if (SecurityContextHolder.getContext().getAuthentication() != null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // Parsed and verified once; both modes below work from the verified token.
+        try {
+            token = jwtService.verify(jwt);
+        } catch (IllegalArgumentException e) {
+            // Invalid or expired: the request continues unauthenticated and protected routes answer 401.
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (stateless) {
+            authenticateFromToken(token, request, response);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (token.subject() != null) {
 
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+                UserDetails userDetails = this.userDetailsService.loadUserByUsername(token.subject());
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (jwtService.isTokenValid(token, userDetails)) {
 
                     SecurityContext context = SecurityContextHolder.createEmptyContext();
 
@@ -72,12 +111,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     context.setAuthentication(authToken);
                     SecurityContextHolder.setContext(context);
                     securityContextRepository.saveContext(context, request, response);
-                } else {
-                    System.out.println("Token validation failed for user: " + username);
                 }
 
             }
 
         filterChain.doFilter(request, response);
     }
+
+    private void authenticateFromToken(VerifiedToken token, HttpServletRequest request, HttpServletResponse response) {
+
+        if (token.userId() == null || token.stamp() == null || token.roles() == null
+                || !token.stamp().equals(securityStampService.currentStamp(token.userId()))) {
+            return;
+        }
+
+        List<SimpleGrantedAuthority> authorities = token.roles().stream()
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .toList();
+
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                new JwtPrincipal(token.userId(), token.subject()),
+                null,
+                authorities);
+
+        authToken.setDetails(
+                new WebAuthenticationDetailsSource().buildDetails(request)
+        );
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authToken);
+        SecurityContextHolder.setContext(context);
+        securityContextRepository.saveContext(context, request, response);
+    }
 }
@@ -0,0 +1,11 @@
+package com.lambda.api.Security.jwt;
+
+import java.security.Principal;
+
+public record JwtPrincipal(Long userId, String username) implements Principal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
@@ -1,7 +1,12 @@
 package com.lambda.api.Security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.lambda.api.Entities.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -10,19 +15,60 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+/**
+ * Issues and verifies tokens. The signing key and parser are built once; verified tokens are kept
+ * in a bounded cache keyed by the token's SHA-256 and dropped when the token expires, so a token
+ * seen before costs one digest instead of a signature check and a JSON parse.
+ */
 @Service
 public class JwtService {
 
-    @Value("${JWT_SECRET_KEY}")
-    private String keyConfig;
-
-    public JwtService(){}
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLES_CLAIM = "roles";
+    public static final String STAMP_CLAIM = "stamp";
+
+    private final Key signInKey;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtService(@Value("${JWT_SECRET_KEY}") String keyConfig,
+                      @Value("${JWT_VERIFIED_CACHE_SIZE:10000}") long verifiedCacheSize){
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(keyConfig));
+        this.parser = Jwts.parserBuilder().setSigningKey(signInKey).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(
+                                Math.max(0, token.expiresAt().toEpochMilli() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
 
     public String extractUsername(String token) {
 
@@ -31,24 +77,15 @@ public class JwtService {
 
     public boolean isTokenValid(String token , UserDetails userDetails){
 
-        final String username = extractUsername(token);
-
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
-
+        return isTokenValid(verify(token), userDetails);
     }
 
-    private boolean isTokenExpired(String token) {
-
-        return extractExpiration(token).before(new Date());
+    // The parser already rejected expired tokens; the check here covers tokens served from the cache.
+    public boolean isTokenValid(VerifiedToken token, UserDetails userDetails){
 
+        return userDetails.getUsername().equals(token.subject()) && !token.isExpired(Instant.now());
     }
 
-    private Date extractExpiration(String token) {
-
-        return extractClaim(token , Claims::getExpiration);
-    }
-
-
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
 
         final Claims claims = extractAllClaims(token);
@@ -62,6 +99,17 @@ public class JwtService {
 
     }
 
+    // Everything the filter needs to authenticate a request travels in the token itself.
+    public String generateToken(User user) {
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, user.getUserId());
+        claims.put(ROLES_CLAIM, List.of(user.getRol().name()));
+        claims.put(STAMP_CLAIM, user.getSecurityStamp());
+
+        return generateToken(claims, user);
+    }
+
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
 
         return Jwts
@@ -70,16 +118,14 @@ public class JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 24))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private Claims extractAllClaims(String token) {
+    // Always parses; the filter goes through verify, which caches.
+    public Claims extractAllClaims(String token) {
         try {
-            return Jwts
-                    .parserBuilder()
-                    .setSigningKey(getSignInKey())
-                    .build()
+            return parser
                     .parseClaimsJws(token)
                     .getBody();
         } catch (JwtException e) {
@@ -87,8 +133,34 @@ public class JwtService {
         }
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(keyConfig);
-        return Keys.hmacShaKeyFor(keyBytes);
+    // The cache key is the digest of the whole token, so an altered token never hits another token's entry.
+    public VerifiedToken verify(String token) {
+
+        String digest = digestOf(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+
+        if (cached != null && !cached.isExpired(Instant.now())) {
+            return cached;
+        }
+
+        VerifiedToken verified;
+        try {
+            verified = VerifiedToken.of(extractAllClaims(token));
+        } catch (JwtException e) {
+            throw new IllegalArgumentException("Token JWT inválido o expirado", e);
+        }
+        if (verified.expiresAt() != null) {
+            verifiedTokens.put(digest, verified);
+        }
+        return verified;
+    }
+
+    private String digestOf(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -0,0 +1,30 @@
+package com.lambda.api.Security.jwt;
+
+import com.lambda.api.Config.CacheConfig;
+import com.lambda.api.Repositories.UserRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class SecurityStampService {
+
+    private final UserRepository repository;
+
+    public SecurityStampService(UserRepository repository) {
+        this.repository = repository;
+    }
+
+    // An unknown user gets an empty stamp, which no token carries.
+    @Cacheable(value = CacheConfig.SECURITY_STAMPS, key = "#userId")
+    @Transactional(readOnly = true)
+    public String currentStamp(Long userId) {
+
+        return repository.findSecurityStampById(userId).orElse("");
+    }
+
+    @CacheEvict(value = CacheConfig.SECURITY_STAMPS, key = "#userId")
+    public void evict(Long userId) {
+    }
+}
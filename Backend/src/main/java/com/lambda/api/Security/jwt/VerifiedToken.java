@@ -0,0 +1,34 @@
+package com.lambda.api.Security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The parts of a verified token the filter reads, copied out of the parsed claims. Immutable, so one
+ * cached instance is safely shared by every request that carries the same token.
+ */
+public record VerifiedToken(String subject, Long userId, List<String> roles, String stamp, Instant expiresAt) {
+
+    public VerifiedToken {
+        roles = roles != null ? List.copyOf(roles) : null;
+    }
+
+    static VerifiedToken of(Claims claims) {
+
+        Number userId = claims.get(JwtService.USER_ID_CLAIM, Number.class);
+        List<?> roles = claims.get(JwtService.ROLES_CLAIM, List.class);
+
+        return new VerifiedToken(
+                claims.getSubject(),
+                userId != null ? userId.longValue() : null,
+                roles != null ? roles.stream().map(String::valueOf).toList() : null,
+                claims.get(JwtService.STAMP_CLAIM, String.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && expiresAt.isBefore(now);
+    }
+}
@@ -0,0 +1,4 @@
+package com.lambda.api.Security.userAuth;
+
+public record ChangePasswordRequest(String currentPassword, String newPassword) {
+}
@@ -3,6 +3,7 @@ package com.lambda.api.Security.userAuth;
 import com.lambda.api.Dtos.CreateUserDTO;
 import com.lambda.api.Dtos.UserDTO;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -27,4 +28,10 @@ public class UserAuthController {
         return ResponseEntity.ok(authService.loginUserAuthentication(loginUserAuth));
     }
 
+    @PutMapping("/password")
+    public ResponseEntity<JwtTokenDto> changePassword (Authentication authentication, @RequestBody ChangePasswordRequest request){
+
+        return ResponseEntity.ok(authService.changePassword(authentication.getName(), request));
+    }
+
 }
@@ -5,8 +5,10 @@ import com.lambda.api.Dtos.UserDTO;
 import com.lambda.api.Entities.User;
 import com.lambda.api.Repositories.UserRepository;
 import com.lambda.api.Security.jwt.JwtService;
+import com.lambda.api.Security.jwt.SecurityStampService;
 import jakarta.persistence.EntityExistsException;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -19,11 +21,14 @@ public class UserAuthService {
     private final JwtService jwtService;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
-    public UserAuthService(UserRepository repository, JwtService jwtService, PasswordEncoder passwordEncoder, AuthenticationManager authenticationManager) {
+    private final SecurityStampService securityStampService;
+    public UserAuthService(UserRepository repository, JwtService jwtService, PasswordEncoder passwordEncoder,
+                           AuthenticationManager authenticationManager, SecurityStampService securityStampService) {
         this.repository = repository;
         this.jwtService = jwtService;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
+        this.securityStampService = securityStampService;
     }
 
 
@@ -56,4 +61,25 @@ public class UserAuthService {
 
         return new JwtTokenDto(token);
     }
+
+    // Rotates the security stamp, so every token issued before the change stops working.
+    public JwtTokenDto changePassword(String username, ChangePasswordRequest request){
+
+        if (request.newPassword() == null || request.newPassword().isBlank()) {
+            throw new IllegalArgumentException("New password cannot be empty");
+        }
+
+        User user = repository.findByEmail(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found."));
+
+        if (request.currentPassword() == null || !passwordEncoder.matches(request.currentPassword(), user.getPassword())) {
+            throw new BadCredentialsException("Current password is incorrect.");
+        }
+
+        user.changePassword(passwordEncoder.encode(request.newPassword()));
+        repository.save(user);
+        securityStampService.evict(user.getUserId());
+
+        return new JwtTokenDto(jwtService.generateToken(user));
+    }
 }
@@ -3,10 +3,11 @@ package com.lambda.api.Service;
 import com.lambda.api.Dtos.ModifyBannerDataDTO;
 import com.lambda.api.Dtos.ModifyBannerImageDTO;
 import com.lambda.api.Dtos.BannerDTO;
+import com.lambda.api.Utils.ImagePreset;
 
 public interface BannerService {
 
-    BannerDTO getBannerImages();
+    BannerDTO getBannerImages(ImagePreset preset);
 
     BannerDTO updateBannerData(ModifyBannerDataDTO request);
     BannerDTO addBannerImage(ModifyBannerImageDTO url);
@@ -0,0 +1,10 @@
+package com.lambda.api.Service;
+
+import com.lambda.api.Dtos.CacheStatsDTO;
+
+import java.util.List;
+
+public interface CacheStatsService {
+
+    List<CacheStatsDTO> getCacheStats();
+}
@@ -0,0 +1,8 @@
+package com.lambda.api.Service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface CatalogEventService {
+
+    SseEmitter subscribe(String lastEventId);
+}
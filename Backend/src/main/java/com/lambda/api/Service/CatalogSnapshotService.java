@@ -0,0 +1,12 @@
+package com.lambda.api.Service;
+
+import com.lambda.api.Dtos.CatalogSectionDTO;
+import com.lambda.api.Events.CatalogSection;
+import com.lambda.api.Utils.ImagePreset;
+
+public interface CatalogSnapshotService {
+
+    CatalogSectionDTO getSection(CatalogSection section);
+
+    CatalogSectionDTO getSection(CatalogSection section, ImagePreset preset);
+}
@@ -1,5 +1,6 @@
 package com.lambda.api.Service;
 
+import com.lambda.api.Dtos.CatalogChangesDTO;
 import com.lambda.api.Dtos.CategoryDTO;
 import com.lambda.api.Dtos.CreateCategoryDTO;
 
@@ -10,4 +11,5 @@ public interface CategoryService {
     List<CategoryDTO> getCategories();
     void deleteCategory(Long id);
     CategoryDTO updateCategory(Long id, String name);
+    CatalogChangesDTO<CategoryDTO> getCategoryChanges(String since);
 }
@@ -0,0 +1,10 @@
+package com.lambda.api.Service;
+
+import java.util.List;
+
+public interface ImageDeletionService {
+
+    void enqueue(String publicId);
+    void enqueueAll(List<String> publicIds);
+    void processDueDeletions();
+}
@@ -0,0 +1,18 @@
+package com.lambda.api.Service;
+
+import com.lambda.api.Dtos.ImageHashFilterStatsDTO;
+
+public interface ImageHashFilterService {
+
+    boolean mightContain(String hash);
+
+    void recordFalsePositive();
+
+    void add(String hash);
+
+    void remove(String hash);
+
+    void rebuild();
+
+    ImageHashFilterStatsDTO getStats();
+}
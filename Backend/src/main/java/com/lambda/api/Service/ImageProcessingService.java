@@ -0,0 +1,11 @@
+package com.lambda.api.Service;
+
+import com.lambda.api.Utils.ImageMetadata;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+public interface ImageProcessingService {
+
+    CompletableFuture<ImageMetadata> analyze(Path file);
+}
@@ -1,14 +1,27 @@
 package com.lambda.api.Service;
 
+import com.lambda.api.Dtos.ImageBatchResultDTO;
+import com.lambda.api.Dtos.ImageBulkDeleteDTO;
+import com.lambda.api.Dtos.ImageBulkDeleteResultDTO;
 import com.lambda.api.Dtos.ImageCreateDTO;
 import com.lambda.api.Dtos.ImageDTO;
+import com.lambda.api.Dtos.ImageJobDTO;
+import com.lambda.api.Dtos.ImageUploadSignatureDTO;
+import com.lambda.api.Dtos.ImageUploadSignatureRequestDTO;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.UUID;
 
 public interface ImageService {
 
-    ImageDTO createImage(ImageCreateDTO file) throws Exception;
+    ImageJobDTO submitImage(ImageCreateDTO file) throws Exception;
+    ImageJobDTO getImageJob(UUID id);
+    ImageDTO uploadImage(InputStream body) throws Exception;
+    List<ImageBatchResultDTO> uploadImages(InputStream archive) throws Exception;
+    ImageUploadSignatureDTO signUpload(ImageUploadSignatureRequestDTO request);
+    ImageDTO completeUpload(String uploadResult);
     void deleteImage(Long id);
+    ImageBulkDeleteResultDTO deleteImages(ImageBulkDeleteDTO request);
     List<ImageDTO> getAllImages();
-    boolean existsByPublicUrl(String url);
 }
@@ -0,0 +1,32 @@
+package com.lambda.api.Service;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Where image bytes live. Uploads return the same map shape for every provider:
+ * url, public_id and, when the provider knows them, width, height and variants.
+ */
+public interface ImageStorageService {
+
+    Map<String, Object> upload(Path file, String hash);
+
+    CompletableFuture<Map<String, Object>> uploadAsync(Path file, String hash);
+
+    CompletableFuture<Void> delete(String publicId);
+
+    CompletableFuture<Void> deleteAll(List<String> publicIds);
+
+    boolean supportsDirectUpload();
+
+    String uploadUrl();
+
+    Map<String, String> signUpload(String publicId);
+
+    Map<String, Object> verifyUploadResult(String responseBody);
+
+    InputStream download(String publicId);
+}
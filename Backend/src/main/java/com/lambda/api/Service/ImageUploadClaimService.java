@@ -0,0 +1,12 @@
+package com.lambda.api.Service;
+
+import java.util.UUID;
+
+public interface ImageUploadClaimService {
+
+    boolean tryClaim(String hash, UUID owner);
+
+    void release(String hash, UUID owner);
+
+    void purgeExpired();
+}
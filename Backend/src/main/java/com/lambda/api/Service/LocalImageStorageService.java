@@ -0,0 +1,9 @@
+package com.lambda.api.Service;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface LocalImageStorageService extends ImageStorageService {
+
+    Optional<Path> resolve(String key);
+}
@@ -1,9 +1,11 @@
 package com.lambda.api.Service;
 
+import com.lambda.api.Dtos.CatalogChangesDTO;
 import com.lambda.api.Dtos.CreateMenuItemDTO;
 import com.lambda.api.Dtos.MenuItemDTO;
 import com.lambda.api.Dtos.MenuItemUpdateDTO;
 import com.lambda.api.Dtos.ModifyMenuItemImageDTO;
+import com.lambda.api.Utils.ImagePreset;
 
 import java.util.List;
 
@@ -11,8 +13,9 @@ public interface MenuItemService {
 
     MenuItemDTO createMenuItem(CreateMenuItemDTO request);
     MenuItemDTO updateMenuItem(MenuItemUpdateDTO request);
-    List<MenuItemDTO> getMenuItems();
+    List<MenuItemDTO> getMenuItems(ImagePreset preset);
     MenuItemDTO addMenuItemImage(ModifyMenuItemImageDTO request);
     MenuItemDTO removeMenuItemImage(ModifyMenuItemImageDTO request);
     String deleteMenuItem(Long menuItemId);
+    CatalogChangesDTO<MenuItemDTO> getMenuItemChanges(String since);
 }
@@ -1,7 +1,10 @@
 package com.lambda.api.Service;
 
+import com.lambda.api.Dtos.CatalogChangesDTO;
 import com.lambda.api.Dtos.CreateProductDTO;
 import com.lambda.api.Dtos.ProductDTO;
+import com.lambda.api.Dtos.ProductSearchDTO;
+import com.lambda.api.Dtos.ProductSliceDTO;
 import com.lambda.api.Dtos.ProductUpdateDTO;
 import org.springframework.data.domain.Page;
 
@@ -15,7 +18,17 @@ public interface ProductService {
 
     Page<ProductDTO> getAllProducts(int page, int size);
 
+    ProductSliceDTO getAvailableProductsAfter(String cursor, int size);
+
+    ProductSliceDTO getAllProductsAfter(String cursor, int size);
+
+    Page<ProductDTO> searchProducts(ProductSearchDTO search, int page, int size, String sort, String direction);
+
     ProductDTO updateProduct(Long id, ProductUpdateDTO productUpdateDTO);
 
     String deleteProduct(Long id);
+
+    CatalogChangesDTO<ProductDTO> getAvailableProductChanges(String since);
+
+    CatalogChangesDTO<ProductDTO> getAllProductChanges(String since);
 }
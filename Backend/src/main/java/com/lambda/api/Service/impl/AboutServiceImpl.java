@@ -1,12 +1,18 @@
 package com.lambda.api.Service.impl;
 
+import com.lambda.api.Config.CacheConfig;
 import com.lambda.api.Dtos.AboutDTO;
 import com.lambda.api.Dtos.AboutRequestDTO;
 import com.lambda.api.Entities.About;
+import com.lambda.api.Events.CatalogChangedEvent;
+import com.lambda.api.Events.CatalogSection;
 import com.lambda.api.Repositories.AboutRepository;
 import com.lambda.api.Service.AboutService;
 import com.lambda.api.Utils.Mapper;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,12 +21,15 @@ public class AboutServiceImpl implements AboutService {
 
 
     private final AboutRepository aboutRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AboutServiceImpl(AboutRepository repository) {
+    public AboutServiceImpl(AboutRepository repository, ApplicationEventPublisher eventPublisher) {
         this.aboutRepository = repository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Cacheable(CacheConfig.ABOUT)
     @Transactional(readOnly = true)
     public AboutDTO getAbout() {
 
@@ -29,12 +38,14 @@ public class AboutServiceImpl implements AboutService {
     }
 
     @Override
+    @CacheEvict(value = CacheConfig.ABOUT, allEntries = true)
     @Transactional
     public AboutDTO updateAbout(AboutRequestDTO request) {
 
         var about = findAbout();
         about.updateAbout(request);
         aboutRepository.save(about);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(CatalogSection.ABOUT));
         return Mapper.aboutToAboutDto(about);
     }
 
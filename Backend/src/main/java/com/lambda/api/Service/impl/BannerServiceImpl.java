@@ -1,37 +1,50 @@
 package com.lambda.api.Service.impl;
 
+import com.lambda.api.Config.CacheConfig;
 import com.lambda.api.Dtos.ModifyBannerDataDTO;
 import com.lambda.api.Dtos.ModifyBannerImageDTO;
 import com.lambda.api.Dtos.BannerDTO;
 import com.lambda.api.Entities.Banner;
+import com.lambda.api.Entities.Image;
+import com.lambda.api.Events.CatalogChangedEvent;
+import com.lambda.api.Events.CatalogSection;
 import com.lambda.api.Exceptions.ImageException;
 import com.lambda.api.Repositories.BannerRepository;
+import com.lambda.api.Repositories.ImageRepository;
 import com.lambda.api.Service.BannerService;
-import com.lambda.api.Service.ImageService;
+import com.lambda.api.Utils.DeliveryUrlUtils;
+import com.lambda.api.Utils.ImagePreset;
 import com.lambda.api.Utils.Mapper;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class BannerServiceImpl implements BannerService {
     private final BannerRepository bannerRepository;
-    private final ImageService imageService;
+    private final ImageRepository imageRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public BannerServiceImpl(BannerRepository bannerRepository, ImageService imageService) {
+    public BannerServiceImpl(BannerRepository bannerRepository, ImageRepository imageRepository, ApplicationEventPublisher eventPublisher) {
         this.bannerRepository = bannerRepository;
-        this.imageService = imageService;
+        this.imageRepository = imageRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Cacheable(value = CacheConfig.BANNER, key = "#preset")
     @Transactional(readOnly = true)
-    public BannerDTO getBannerImages() {
+    public BannerDTO getBannerImages(ImagePreset preset) {
 
         var banner = findBanner();
-        return Mapper.bannerToDto(banner);
+        return Mapper.bannerToDto(banner, preset);
     }
 
     @Override
+    @CacheEvict(value = CacheConfig.BANNER, allEntries = true)
     @Transactional
     public BannerDTO updateBannerData(ModifyBannerDataDTO request) {
 
@@ -40,11 +53,13 @@ public class BannerServiceImpl implements BannerService {
         banner.updateBannerDesc(request);
 
         bannerRepository.save(banner);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(CatalogSection.BANNER));
 
         return Mapper.bannerToDto(banner);
     }
 
     @Override
+    @CacheEvict(value = CacheConfig.BANNER, allEntries = true)
     @Transactional
     public BannerDTO addBannerImage(ModifyBannerImageDTO request){
 
@@ -54,27 +69,32 @@ public class BannerServiceImpl implements BannerService {
             throw new IllegalStateException("Banner has reached maximum number of images");
         }
 
-        if(!imageService.existsByPublicUrl(request.url())){
-            throw new ImageException("Image url not found in the database");
-        }
-        banner.addImage(request.url());
+        Image image = imageRepository.findByPublicUrl(DeliveryUrlUtils.toStoredUrl(request.url()))
+                .orElseThrow(()-> new ImageException("Image url not found in the database"));
+
+        banner.addImage(image);
         bannerRepository.save(banner);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(CatalogSection.BANNER));
 
         return Mapper.bannerToDto(banner);
     }
 
     @Override
+    @CacheEvict(value = CacheConfig.BANNER, allEntries = true)
     @Transactional
     public BannerDTO removeBannerImage(ModifyBannerImageDTO url) {
 
         var banner = findBanner();
 
-        if (!banner.getImageUrls().contains(url.url())){
+        String storedUrl = DeliveryUrlUtils.toStoredUrl(url.url());
+
+        if (!banner.getImageUrls().contains(storedUrl)){
             throw new IllegalStateException("The URL provided is not part of the banner");
         }
 
-        banner.removeImage(url.url());
+        banner.removeImage(storedUrl);
         bannerRepository.save(banner);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(CatalogSection.BANNER));
 
         return Mapper.bannerToDto(banner);
     }
@@ -1,12 +1,18 @@
 package com.lambda.api.Service.impl;
 
+import com.lambda.api.Config.CacheConfig;
 import com.lambda.api.Dtos.BusinessInfoDTO;
 import com.lambda.api.Dtos.BusinessInfoUpdateDTO;
 import com.lambda.api.Entities.BusinessInfo;
+import com.lambda.api.Events.CatalogChangedEvent;
+import com.lambda.api.Events.CatalogSection;
 import com.lambda.api.Repositories.BusinessInfoRepository;
 import com.lambda.api.Service.BusinessInfoService;
 import com.lambda.api.Utils.Mapper;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,12 +20,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class BusinessInfoServiceImpl implements BusinessInfoService {
 
     private final BusinessInfoRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public BusinessInfoServiceImpl(BusinessInfoRepository repository) {
+    public BusinessInfoServiceImpl(BusinessInfoRepository repository, ApplicationEventPublisher eventPublisher) {
         this.repository = repository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Cacheable(CacheConfig.BUSINESS_INFO)
     @Transactional(readOnly = true)
     public BusinessInfoDTO getBusinessInfo() {
 
@@ -28,12 +37,14 @@ public class BusinessInfoServiceImpl implements BusinessInfoService {
     }
 
     @Override
+    @CacheEvict(value = CacheConfig.BUSINESS_INFO, allEntries = true)
     @Transactional
     public BusinessInfoDTO updateBusinessInfo(BusinessInfoUpdateDTO request) {
 
         var findBusiness = findBusinessInfo();
         findBusiness.updateInfo(request);
         repository.save(findBusiness);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(CatalogSection.BUSINESS_INFO));
 
         return Mapper.businessInfoToDto(findBusiness);
     }
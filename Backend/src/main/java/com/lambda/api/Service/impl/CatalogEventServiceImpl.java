@@ -0,0 +1,179 @@
+package com.lambda.api.Service.impl;
+
+import com.lambda.api.Dtos.CatalogEventDTO;
+import com.lambda.api.Events.CatalogChangedEvent;
+import com.lambda.api.Service.CatalogEventService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes catalog change notifications over SSE. Idle connections hold no thread (servlet async),
+ * and writes run on virtual threads so a slow client never blocks the committing request.
+ * Each subscriber drains its own queue on at most one thread at a time, so a client sees
+ * replayed events, live events and heartbeats in the order they were queued.
+ */
+@Service
+public class CatalogEventServiceImpl implements CatalogEventService {
+
+    private static final String CHANGE_EVENT = "catalog-change";
+    private static final String RESYNC_EVENT = "resync";
+    private static final int REPLAY_BUFFER_SIZE = 256;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Guards the replay buffer and the fan-out, so a new subscriber gets each event exactly once.
+    private final Deque<CatalogEventDTO> recentEvents = new ArrayDeque<>();
+    // Seeded from the clock so ids keep increasing across instance restarts.
+    private final AtomicLong eventIds = new AtomicLong(System.currentTimeMillis());
+    private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+    private final long timeoutMillis;
+
+    public CatalogEventServiceImpl(@Value("${CATALOG_EVENTS_TIMEOUT_MS:1800000}") long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public SseEmitter subscribe(String lastEventId) {
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        synchronized (recentEvents) {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                replaySince(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+
+        synchronized (recentEvents) {
+            CatalogEventDTO change = new CatalogEventDTO(eventIds.incrementAndGet(), event.sections());
+
+            recentEvents.addLast(change);
+            if (recentEvents.size() > REPLAY_BUFFER_SIZE) {
+                recentEvents.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                subscriber.enqueue(changeEvent(change));
+            }
+        }
+    }
+
+    @Scheduled(fixedRateString = "${CATALOG_EVENTS_HEARTBEAT_MS:15000}")
+    public void sendHeartbeat() {
+
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        dispatcher.shutdown();
+    }
+
+    // Called with the recentEvents lock held.
+    private void replaySince(Subscriber subscriber, String lastEventId) {
+
+        long lastId;
+        try {
+            lastId = Long.parseLong(lastEventId);
+        } catch (NumberFormatException e) {
+            return;
+        }
+
+        boolean gap = recentEvents.isEmpty()
+                ? lastId < eventIds.get()
+                : recentEvents.peekFirst().id() > lastId + 1;
+
+        if (gap) {
+            // The client missed more than we kept (or this is another instance): refetch everything.
+            subscriber.enqueue(SseEmitter.event().name(RESYNC_EVENT).id(String.valueOf(eventIds.get())).data("{}"));
+            return;
+        }
+        for (CatalogEventDTO change : recentEvents) {
+            if (change.id() > lastId) {
+                subscriber.enqueue(changeEvent(change));
+            }
+        }
+    }
+
+    private SseEmitter.SseEventBuilder changeEvent(CatalogEventDTO change) {
+
+        return SseEmitter.event()
+                .name(CHANGE_EVENT)
+                .id(String.valueOf(change.id()))
+                .data(change, MediaType.APPLICATION_JSON);
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+
+            pending.add(event);
+            if (draining.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+
+            do {
+                SseEmitter.SseEventBuilder event;
+                while ((event = pending.poll()) != null) {
+                    if (!send(event)) {
+                        pending.clear();
+                        return;
+                    }
+                }
+                draining.set(false);
+                // An event queued after the last poll but before the flag was cleared needs this drain to pick it up.
+            } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private boolean send(SseEmitter.SseEventBuilder event) {
+
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+    }
+}
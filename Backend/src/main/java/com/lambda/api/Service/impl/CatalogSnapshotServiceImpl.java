@@ -0,0 +1,274 @@
+package com.lambda.api.Service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lambda.api.Config.CacheConfig;
+import com.lambda.api.Dtos.CatalogSectionDTO;
+import com.lambda.api.Events.CatalogChangedEvent;
+import com.lambda.api.Events.CatalogSection;
+import com.lambda.api.Service.*;
+import com.lambda.api.Utils.ImagePreset;
+import com.lambda.api.Utils.Mapper;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the public catalog endpoints as pre-serialized JSON in memory.
+ * Reads never open a transaction; a section is rebuilt after an admin write to it commits,
+ * and at most once per max-age so other Lambda instances pick up changes.
+ * Each section carries a strong ETag so controllers can answer If-None-Match with 304.
+ * Sections with images are built for their default preset; other presets are serialized
+ * on first request and dropped whenever their section is rebuilt.
+ * A rebuild first evicts the section's service cache, so it always reads committed rows
+ * rather than an entry cached before the write or by a read that raced it.
+ */
+@Service
+public class CatalogSnapshotServiceImpl implements CatalogSnapshotService {
+
+    private static final Set<CatalogSection> SNAPSHOT_SECTIONS = EnumSet.of(
+            CatalogSection.MENU, CatalogSection.CATEGORIES, CatalogSection.BANNER,
+            CatalogSection.BUSINESS_INFO, CatalogSection.ABOUT);
+
+    private final MenuItemService menuItemService;
+    private final CategoryService categoryService;
+    private final BannerService bannerService;
+    private final BusinessInfoService businessInfoService;
+    private final AboutService aboutService;
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
+    private final Duration maxAge;
+
+    private volatile Snapshot snapshot;
+
+    public CatalogSnapshotServiceImpl(MenuItemService menuItemService, CategoryService categoryService,
+                                      BannerService bannerService, BusinessInfoService businessInfoService,
+                                      AboutService aboutService, ObjectMapper objectMapper, CacheManager cacheManager,
+                                      @Value("${CATALOG_SNAPSHOT_MAX_AGE_SECONDS:60}") long maxAgeSeconds) {
+        this.menuItemService = menuItemService;
+        this.categoryService = categoryService;
+        this.bannerService = bannerService;
+        this.businessInfoService = businessInfoService;
+        this.aboutService = aboutService;
+        this.objectMapper = objectMapper;
+        this.cacheManager = cacheManager;
+        this.maxAge = Duration.ofSeconds(maxAgeSeconds);
+    }
+
+    @Override
+    public CatalogSectionDTO getSection(CatalogSection section) {
+
+        return getSection(section, null);
+    }
+
+    @Override
+    public CatalogSectionDTO getSection(CatalogSection section, ImagePreset preset) {
+
+        Snapshot current = currentSnapshot(section);
+        SnapshotEntry entry;
+
+        if (preset == null || preset == defaultPreset(section)) {
+            entry = current.entries().get(section);
+        } else {
+            entry = presetEntry(current, new PresetKey(section, preset));
+        }
+
+        if (entry.section() == null) {
+            throw new EntityNotFoundException(entry.notFoundMessage());
+        }
+        return entry.section();
+    }
+
+    // Built outside the map: a build queries the database, which must not happen under a bin lock.
+    private SnapshotEntry presetEntry(Snapshot current, PresetKey key) {
+
+        Map<PresetKey, SnapshotEntry> presetEntries = current.presetEntries();
+        SnapshotEntry entry = presetEntries.get(key);
+
+        if (entry != null && !entry.isOlderThan(maxAge)) {
+            return entry;
+        }
+        SnapshotEntry built = buildEntry(key.section(), key.preset());
+
+        if (entry == null) {
+            SnapshotEntry existing = presetEntries.putIfAbsent(key, built);
+            return existing != null ? existing : built;
+        }
+        presetEntries.replace(key, entry, built);
+        return built;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+
+        Set<CatalogSection> sections = EnumSet.noneOf(CatalogSection.class);
+        sections.addAll(event.sections());
+        sections.retainAll(SNAPSHOT_SECTIONS);
+
+        if (snapshot != null && !sections.isEmpty()) {
+            rebuild(sections);
+        }
+    }
+
+    private Snapshot currentSnapshot(CatalogSection section) {
+
+        Snapshot current = snapshot;
+
+        if (current == null || current.entries().get(section).isOlderThan(maxAge)) {
+            current = rebuildIfStale();
+        }
+        return current;
+    }
+
+    private synchronized Snapshot rebuildIfStale() {
+
+        Snapshot current = snapshot;
+        Set<CatalogSection> stale = current == null ? SNAPSHOT_SECTIONS : current.staleSections(maxAge);
+
+        if (stale.isEmpty()) {
+            return current;
+        }
+        try {
+            return rebuild(stale);
+        } catch (RuntimeException e) {
+            if (current == null) {
+                throw e;
+            }
+            // Keep serving the previous snapshot until the database is reachable again.
+            return current;
+        }
+    }
+
+    private synchronized Snapshot rebuild(Set<CatalogSection> sections) {
+
+        Map<CatalogSection, SnapshotEntry> entries = new EnumMap<>(CatalogSection.class);
+        Snapshot current = snapshot;
+
+        if (current != null) {
+            entries.putAll(current.entries());
+        }
+        Set<CatalogSection> toBuild = current == null ? SNAPSHOT_SECTIONS : sections;
+
+        for (CatalogSection section : toBuild) {
+            evictCache(section);
+            entries.put(section, buildEntry(section));
+        }
+
+        Map<PresetKey, SnapshotEntry> presetEntries = new ConcurrentHashMap<>();
+
+        if (current != null) {
+            current.presetEntries().forEach((key, entry) -> {
+                if (!toBuild.contains(key.section())) {
+                    presetEntries.put(key, entry);
+                }
+            });
+        }
+        Snapshot rebuilt = new Snapshot(entries, presetEntries);
+        snapshot = rebuilt;
+        return rebuilt;
+    }
+
+    // Immediate even inside a transaction: the build that follows must not read the evicted entry.
+    private void evictCache(CatalogSection section) {
+
+        String cacheName = switch (section) {
+            case CATEGORIES -> CacheConfig.CATEGORIES;
+            case BANNER -> CacheConfig.BANNER;
+            case BUSINESS_INFO -> CacheConfig.BUSINESS_INFO;
+            case ABOUT -> CacheConfig.ABOUT;
+            case MENU, PRODUCTS -> null;
+        };
+        Cache cache = cacheName != null ? cacheManager.getCache(cacheName) : null;
+
+        if (cache != null) {
+            cache.invalidate();
+        }
+    }
+
+    private SnapshotEntry buildEntry(CatalogSection section) {
+
+        return buildEntry(section, defaultPreset(section));
+    }
+
+    private SnapshotEntry buildEntry(CatalogSection section, ImagePreset preset) {
+
+        try {
+            Object body = switch (section) {
+                case MENU -> menuItemService.getMenuItems(preset);
+                case CATEGORIES -> categoryService.getCategories();
+                case BANNER -> bannerService.getBannerImages(preset);
+                case BUSINESS_INFO -> businessInfoService.getBusinessInfo();
+                case ABOUT -> aboutService.getAbout();
+                case PRODUCTS -> throw new IllegalArgumentException("Products are not part of the catalog snapshot");
+            };
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            return new SnapshotEntry(new CatalogSectionDTO(etagOf(json), json), null, Instant.now());
+        } catch (EntityNotFoundException e) {
+            return new SnapshotEntry(null, e.getMessage(), Instant.now());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error serializing catalog section " + section, e);
+        }
+    }
+
+    private ImagePreset defaultPreset(CatalogSection section) {
+
+        return switch (section) {
+            case MENU -> Mapper.MENU_PRESET;
+            case BANNER -> Mapper.BANNER_PRESET;
+            default -> null;
+        };
+    }
+
+    // Content-derived, so every instance serving the same data answers with the same ETag.
+    private String etagOf(byte[] json) {
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record SnapshotEntry(CatalogSectionDTO section, String notFoundMessage, Instant builtAt) {
+
+        boolean isOlderThan(Duration maxAge) {
+            return builtAt.plus(maxAge).isBefore(Instant.now());
+        }
+    }
+
+    private record PresetKey(CatalogSection section, ImagePreset preset) {
+    }
+
+    private record Snapshot(Map<CatalogSection, SnapshotEntry> entries,
+                            Map<PresetKey, SnapshotEntry> presetEntries) {
+
+        Set<CatalogSection> staleSections(Duration maxAge) {
+
+            Set<CatalogSection> stale = EnumSet.noneOf(CatalogSection.class);
+            entries.forEach((section, entry) -> {
+                if (entry.isOlderThan(maxAge)) {
+                    stale.add(section);
+                }
+            });
+            return stale;
+        }
+    }
+}
@@ -1,31 +1,47 @@
 package com.lambda.api.Service.impl;
 
+import com.lambda.api.Config.CacheConfig;
+import com.lambda.api.Dtos.CatalogChangesDTO;
 import com.lambda.api.Dtos.CategoryDTO;
 import com.lambda.api.Dtos.CreateCategoryDTO;
 import com.lambda.api.Entities.Category;
+import com.lambda.api.Events.CatalogChangedEvent;
+import com.lambda.api.Events.CatalogSection;
 import com.lambda.api.Exceptions.EntityException;
 import com.lambda.api.Repositories.CategoryRepository;
+import com.lambda.api.Repositories.ChangeSequenceRepository;
+import com.lambda.api.Repositories.MenuItemRepository;
 import com.lambda.api.Service.CategoryService;
+import com.lambda.api.Utils.ChangeTokenUtils;
 import com.lambda.api.Utils.Mapper;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final MenuItemRepository menuItemRepository;
+    private final ChangeSequenceRepository changeSequenceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CategoryServiceImpl(CategoryRepository categoryRepository) {
+    public CategoryServiceImpl(CategoryRepository categoryRepository, MenuItemRepository menuItemRepository,
+                               ChangeSequenceRepository changeSequenceRepository, ApplicationEventPublisher eventPublisher) {
         this.categoryRepository = categoryRepository;
+        this.menuItemRepository = menuItemRepository;
+        this.changeSequenceRepository = changeSequenceRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @CacheEvict(value = CacheConfig.CATEGORIES, allEntries = true)
     @Transactional
     public CategoryDTO createCategory(CreateCategoryDTO request) {
 
@@ -33,40 +49,53 @@ public class CategoryServiceImpl implements CategoryService {
             throw new EntityException("The category already exists");
         }
 
-        var newCategory = Category.create(request.name());
+        long changeSeq = changeSequenceRepository.nextChangeSeq();
+
+        // The unique name constraint still covers soft-deleted rows, so bring the old one back.
+        var newCategory = categoryRepository.findDeletedByName(request.name().toLowerCase())
+                .orElseGet(() -> Category.create(request.name()));
+        newCategory.restore(changeSeq);
         categoryRepository.save(newCategory);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(CatalogSection.CATEGORIES));
 
         return Mapper.categoryToDto(newCategory);
     }
 
     @Override
+    @Cacheable(CacheConfig.CATEGORIES)
     @Transactional(readOnly = true)
     public List<CategoryDTO> getCategories() {
 
-        List<Category> categories = categoryRepository.findAllCategories();
+        List<CategoryDTO> categories = categoryRepository.findAllCategoryDtos();
 
         if (categories.isEmpty()){
             throw new EntityNotFoundException("There are no categories in the database");
         }
 
-        return categories.stream()
-                .map(Mapper::categoryToDto)
-                .collect(Collectors.toList());
+        return categories;
     }
 
     @Override
+    @CacheEvict(value = CacheConfig.CATEGORIES, allEntries = true)
     @Transactional
     public void deleteCategory(Long id) {
 
-        var deleted = categoryRepository.deleteByIdIfExists(id);
+        if (menuItemRepository.existsByCategory_Id(id)) {
+            throw new EntityException("The category still has menu items");
+        }
+
+        var deleted = categoryRepository.softDeleteById(id, changeSequenceRepository.nextChangeSeq());
 
         if (deleted == 0) {
 
             throw new EntityNotFoundException("Resource with ID " + id + " not found");
         }
+        eventPublisher.publishEvent(CatalogChangedEvent.of(CatalogSection.CATEGORIES, CatalogSection.MENU));
     }
 
     @Override
+    @CacheEvict(value = CacheConfig.CATEGORIES, allEntries = true)
+    @Transactional
     public CategoryDTO updateCategory(Long id, String name) {
 
         if (existsCategory(name)){
@@ -76,12 +105,41 @@ public class CategoryServiceImpl implements CategoryService {
         var findCategory = categoryRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Category with id: " + id + " not founded."));
 
+        long changeSeq = changeSequenceRepository.nextChangeSeq();
+
         findCategory.update(name);
+        findCategory.markChanged(changeSeq);
         categoryRepository.save(findCategory);
+        // Menu items embed the category name, so delta clients must re-fetch them too.
+        menuItemRepository.markChangedByCategoryId(id, changeSeq);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(CatalogSection.CATEGORIES, CatalogSection.MENU));
 
         return Mapper.categoryToDto(findCategory);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CatalogChangesDTO<CategoryDTO> getCategoryChanges(String since) {
+
+        long sinceSeq = ChangeTokenUtils.parseSince(since);
+        List<Category> changes = categoryRepository.findChangesSince(sinceSeq);
+
+        List<CategoryDTO> upserts = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        long maxChangeSeq = sinceSeq;
+
+        for (Category category : changes) {
+            if (Boolean.TRUE.equals(category.getDeleted())) {
+                deleted.add(category.getId());
+            } else {
+                upserts.add(Mapper.categoryToDto(category));
+            }
+            maxChangeSeq = Math.max(maxChangeSeq, category.getChangeSeq());
+        }
+
+        return new CatalogChangesDTO<>(upserts, deleted, ChangeTokenUtils.nextToken(sinceSeq, maxChangeSeq));
+    }
+
     private boolean existsCategory(String category){
 
         return categoryRepository.existsByName(category.toLowerCase());
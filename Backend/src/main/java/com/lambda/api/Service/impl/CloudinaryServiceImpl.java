@@ -2,77 +2,85 @@ package com.lambda.api.Service.impl;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lambda.api.Entities.valueObjects.ImageVariant;
 import com.lambda.api.Exceptions.ImageException;
 import com.lambda.api.Service.CloudinaryService;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 
 @Service
+@ConditionalOnProperty(name = "IMAGE_STORAGE", havingValue = "cloudinary", matchIfMissing = true)
 public class CloudinaryServiceImpl implements CloudinaryService {
+
+    private static final int MAX_IDS_PER_DELETE = 100;
+
     @Value("${CLOUD_API_KEY}")
     private String cloudinaryKey;
     @Value("${CLOUD_NAME}")
     private String cloudinaryName;
     @Value("${CLOUD_API_SECRET}")
     private String cloudinarySecret;
+    @Value("${CLOUDINARY_API_BASE_URL:https://api.cloudinary.com}")
+    private String cloudinaryBaseUrl;
+    @Value("${CLOUDINARY_DELIVERY_BASE_URL:https://res.cloudinary.com}")
+    private String cloudinaryDeliveryUrl;
+    @Value("${CLOUDINARY_REQUEST_TIMEOUT_MS:30000}")
+    private long requestTimeoutMillis;
+    @Value("${IMAGE_VARIANT_WIDTHS:320,640,1280}")
+    private int[] variantWidths;
 
-    @Override
-    public Map<String, Object> upload(MultipartFile file) {
-        try {
-            // Validación de archivo
-            validateFile(file);
-            String CLOUDINARY_URL = "https://api.cloudinary.com/v1_1/" + cloudinaryName + "/image/upload";
-
-            // Construcción de parámetros para la solicitud de carga
-            String timestamp = String.valueOf(System.currentTimeMillis() / 1000);
-            String signature = generateSignature(timestamp);
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
 
-            Map<String, Object> uploadParams = new HashMap<>();
-            uploadParams.put("file", "data:image/png;base64," + Base64.getEncoder().encodeToString(file.getBytes()));
-            uploadParams.put("timestamp", timestamp);
-            uploadParams.put("api_key", cloudinaryKey);
-            uploadParams.put("signature", signature);
+    public CloudinaryServiceImpl(@Qualifier("cloudinaryHttpClient") HttpClient httpClient, ObjectMapper objectMapper) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+    }
 
-            // Crear solicitud HTTP para subir el archivo
-            HttpClient client = HttpClient.newHttpClient();
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(CLOUDINARY_URL))
-                    .header("Content-Type", "application/x-www-form-urlencoded")
-                    .POST(buildFormData(uploadParams))
-                    .build();
+    @Override
+    public Map<String, Object> upload(Path file, String hash) {
 
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        return join(uploadAsync(file, hash), "Image uploading failed!");
+    }
 
-            if (response.statusCode() == 200) {
-                // Respuesta exitosa, analizar los datos
-                return parseUploadResponse(response.body());
-            } else {
-                throw new RuntimeException("Error uploading file to Cloudinary: " + response.body());
-            }
+    @Override
+    public CompletableFuture<Map<String, Object>> uploadAsync(Path file, String hash) {
+        try {
+            // El archivo se envía como multipart directamente desde disco, sin cargarlo en memoria
+            return sendUpload(HttpRequest.BodyPublishers.ofFile(file));
         } catch (Exception e) {
-            throw new RuntimeException("Image uploading failed!", e);
+            return CompletableFuture.failedFuture(new RuntimeException("Image uploading failed!", e));
         }
     }
 
     @Override
-    @Async("asyncTaskExecutor")
-    public void delete(String public_id) {
+    public CompletableFuture<Void> delete(String public_id) {
         try {
-            String CLOUDINARY_URL = "https://api.cloudinary.com/v1_1/" + cloudinaryName + "/image/destroy";
-
             // Generar timestamp y firma
             String timestamp = String.valueOf(System.currentTimeMillis() / 1000);
             String signature = generateSignatureForDeletion(public_id, timestamp);
@@ -84,24 +92,210 @@ public class CloudinaryServiceImpl implements CloudinaryService {
             deleteParams.put("api_key", cloudinaryKey);
             deleteParams.put("signature", signature);
 
-            // Crear solicitud HTTP para eliminar el archivo
-            HttpClient client = HttpClient.newHttpClient();
             HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(CLOUDINARY_URL))
+                    .uri(apiUri("destroy"))
+                    .timeout(Duration.ofMillis(requestTimeoutMillis))
                     .header("Content-Type", "application/x-www-form-urlencoded")
                     .POST(buildFormData(deleteParams))
                     .build();
 
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .thenAccept(response -> {
+                        if (response.statusCode() != 200) {
+                            throw new RuntimeException("Error deleting file from Cloudinary: " + response.body());
+                        }
+                    });
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new RuntimeException("Image deletion failed!", e));
+        }
+    }
 
-            if (response.statusCode() != 200) {
-                throw new RuntimeException("Error deleting file from Cloudinary: " + response.body());
+    @Override
+    public CompletableFuture<Void> deleteAll(List<String> publicIds) {
+        if (publicIds.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (publicIds.size() > MAX_IDS_PER_DELETE) {
+            throw new IllegalArgumentException("At most " + MAX_IDS_PER_DELETE + " public ids can be deleted per request");
+        }
+
+        // Admin API: un solo request elimina hasta 100 recursos, autenticado con api_key:api_secret
+        String query = publicIds.stream()
+                .map(id -> "public_ids[]=" + URLEncoder.encode(id, StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        String credentials = Base64.getEncoder()
+                .encodeToString((cloudinaryKey + ":" + cloudinarySecret).getBytes(StandardCharsets.UTF_8));
+
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(cloudinaryBaseUrl + "/v1_1/" + cloudinaryName + "/resources/image/upload?" + query))
+                .timeout(Duration.ofMillis(requestTimeoutMillis))
+                .header("Authorization", "Basic " + credentials)
+                .DELETE()
+                .build();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenAccept(response -> {
+                    if (response.statusCode() != 200) {
+                        throw new RuntimeException("Error deleting files from Cloudinary: " + response.body());
+                    }
+                });
+    }
+
+    @Override
+    public boolean supportsDirectUpload() {
+        return true;
+    }
+
+    @Override
+    public String uploadUrl() {
+        return apiUri("upload").toString();
+    }
+
+    @Override
+    public Map<String, String> signUpload(String publicId) {
+        try {
+            // El navegador sube directo a Cloudinary; solo firmamos los parámetros que fijamos nosotros.
+            // Cloudinary rechaza firmas con timestamp de más de una hora.
+            Map<String, Object> signedParams = new HashMap<>();
+            signedParams.put("timestamp", String.valueOf(System.currentTimeMillis() / 1000));
+            signedParams.put("public_id", publicId);
+            signedParams.put("overwrite", "false");
+            signedParams.put("eager", eagerTransformations());
+
+            Map<String, String> uploadParams = new HashMap<>();
+            signedParams.forEach((key, value) -> uploadParams.put(key, value.toString()));
+            uploadParams.put("api_key", cloudinaryKey);
+            uploadParams.put("signature", generateSignature(signedParams));
+            return uploadParams;
+        } catch (Exception e) {
+            throw new RuntimeException("Error signing upload", e);
+        }
+    }
+
+    @Override
+    public Map<String, Object> verifyUploadResult(String responseBody) {
+        JsonNode jsonNode;
+        try {
+            jsonNode = objectMapper.readTree(responseBody);
+        } catch (Exception e) {
+            throw new ImageException("Invalid upload result");
+        }
+
+        String publicId = jsonNode.path("public_id").asText(null);
+        String version = jsonNode.path("version").asText(null);
+        String signature = jsonNode.path("signature").asText(null);
+
+        if (publicId == null || version == null || signature == null) {
+            throw new ImageException("Invalid upload result");
+        }
+
+        // Cloudinary firma la respuesta de carga con public_id y version
+        Map<String, Object> signedParams = new HashMap<>();
+        signedParams.put("public_id", publicId);
+        signedParams.put("version", version);
+        try {
+            byte[] expected = generateSignature(signedParams).getBytes(StandardCharsets.UTF_8);
+            if (!MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.UTF_8))) {
+                throw new ImageException("Invalid upload signature");
             }
+        } catch (ImageException e) {
+            throw e;
         } catch (Exception e) {
-            throw new RuntimeException("Image deletion failed!", e);
+            throw new RuntimeException("Error verifying upload signature", e);
+        }
+
+        // El resto de la respuesta no está firmado: las URLs se arman con public_id y version.
+        // Las dimensiones las toma quien descarga y verifica el archivo.
+        Map<String, Object> responseMap = new HashMap<>();
+        responseMap.put("url", deliveryUrl("v" + version + "/" + encodePath(publicId)));
+        responseMap.put("public_id", publicId);
+
+        List<ImageVariant> variants = new ArrayList<>();
+        for (int variantWidth : variantWidths) {
+            String transformation = "c_limit,w_" + variantWidth;
+            variants.add(new ImageVariant(variantWidth, deliveryUrl(transformation + "/v" + version + "/" + encodePath(publicId))));
+        }
+        responseMap.put("variants", variants);
+        return responseMap;
+    }
+
+    @Override
+    public InputStream download(String publicId) {
+        // Sin transformación en la URL, Cloudinary entrega el original tal como se subió.
+        // La URL se arma con el public_id firmado, nunca con la secure_url que informa el cliente.
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(deliveryUrl(encodePath(publicId))))
+                .timeout(Duration.ofMillis(requestTimeoutMillis))
+                .GET()
+                .build();
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            if (response.statusCode() != 200) {
+                response.body().close();
+                throw new RuntimeException("Error downloading file from Cloudinary: " + response.statusCode());
+            }
+            return response.body();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Image download failed!", e);
+        } catch (IOException e) {
+            throw new RuntimeException("Image download failed!", e);
+        }
+    }
+
+    private CompletableFuture<Map<String, Object>> sendUpload(HttpRequest.BodyPublisher filePublisher) throws Exception {
+
+        // Construcción de parámetros para la solicitud de carga
+        // Las variantes por ancho se generan en Cloudinary durante la carga (eager), sin subir archivos extra
+        Map<String, Object> signedParams = new HashMap<>();
+        signedParams.put("timestamp", String.valueOf(System.currentTimeMillis() / 1000));
+        signedParams.put("eager", eagerTransformations());
+
+        Map<String, Object> uploadParams = new HashMap<>(signedParams);
+        uploadParams.put("api_key", cloudinaryKey);
+        uploadParams.put("signature", generateSignature(signedParams));
+
+        String boundary = "----CloudinaryBoundary" + UUID.randomUUID();
+
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(apiUri("upload"))
+                .timeout(Duration.ofMillis(requestTimeoutMillis))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(buildMultipartData(uploadParams, filePublisher, boundary))
+                .build();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> {
+                    if (response.statusCode() == 200) {
+                        // Respuesta exitosa, analizar los datos
+                        return parseUploadResponse(response.body());
+                    }
+                    throw new RuntimeException("Error uploading file to Cloudinary: " + response.body());
+                });
+    }
+
+    private <T> T join(CompletableFuture<T> future, String message) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw new RuntimeException(message, e.getCause());
         }
     }
 
+    private URI apiUri(String action) {
+        return URI.create(cloudinaryBaseUrl + "/v1_1/" + cloudinaryName + "/image/" + action);
+    }
+
+    private String deliveryUrl(String path) {
+        return cloudinaryDeliveryUrl + "/" + cloudinaryName + "/image/upload/" + path;
+    }
+
+    private String encodePath(String publicId) {
+        return Arrays.stream(publicId.split("/"))
+                .map(segment -> URLEncoder.encode(segment, StandardCharsets.UTF_8))
+                .collect(Collectors.joining("/"));
+    }
+
     private String generateSignatureForDeletion(String publicId, String timestamp) throws Exception {
         String toSign = "public_id=" + publicId + "&timestamp=" + timestamp + cloudinarySecret;
         MessageDigest digest = MessageDigest.getInstance("SHA-1");
@@ -109,18 +303,17 @@ public class CloudinaryServiceImpl implements CloudinaryService {
         return bytesToHex(hash);
     }
 
-    private void validateFile(MultipartFile file) {
-        if (file == null || file.isEmpty()) {
-            throw new IllegalArgumentException("File cannot be null or empty");
-        }
-
-        if (file.getSize() > 3 * 1024 * 1024) {
-            throw new ImageException("File too large. Max size is 10MB");
-        }
+    private String eagerTransformations() {
+        return Arrays.stream(variantWidths)
+                .mapToObj(width -> "c_limit,w_" + width)
+                .collect(Collectors.joining("|"));
     }
 
-    private String generateSignature(String timestamp) throws Exception {
-        String toSign = "timestamp=" + timestamp + cloudinarySecret; // Solo incluir parámetros ordenados.
+    private String generateSignature(Map<String, Object> params) throws Exception {
+        // Solo incluir parámetros ordenados.
+        String toSign = new TreeMap<>(params).entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining("&")) + cloudinarySecret;
         MessageDigest digest = MessageDigest.getInstance("SHA-1");
         byte[] hash = digest.digest(toSign.getBytes(StandardCharsets.UTF_8));
         return bytesToHex(hash);
@@ -146,16 +339,49 @@ public class CloudinaryServiceImpl implements CloudinaryService {
         return HttpRequest.BodyPublishers.ofString(form.toString());
     }
 
+    private HttpRequest.BodyPublisher buildMultipartData(Map<String, Object> params, HttpRequest.BodyPublisher filePublisher, String boundary) {
+        StringBuilder head = new StringBuilder();
+        for (Map.Entry<String, Object> entry : params.entrySet()) {
+            head.append("--").append(boundary).append("\r\n")
+                    .append("Content-Disposition: form-data; name=\"").append(entry.getKey()).append("\"\r\n\r\n")
+                    .append(entry.getValue()).append("\r\n");
+        }
+        head.append("--").append(boundary).append("\r\n")
+                .append("Content-Disposition: form-data; name=\"file\"; filename=\"upload\"\r\n")
+                .append("Content-Type: application/octet-stream\r\n\r\n");
+
+        String tail = "\r\n--" + boundary + "--\r\n";
+
+        return HttpRequest.BodyPublishers.concat(
+                HttpRequest.BodyPublishers.ofString(head.toString()),
+                filePublisher,
+                HttpRequest.BodyPublishers.ofString(tail)
+        );
+    }
+
     private Map<String, Object> parseUploadResponse(String responseBody) {
         // Analizar la respuesta JSON de la API de Cloudinary
         // Se devolvería un Map con los datos relevantes (ejemplo: URL, public_id)
         Map<String, Object> responseMap = new HashMap<>();
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
             JsonNode jsonNode = objectMapper.readTree(responseBody);
 
             responseMap.put("url", jsonNode.get("secure_url").textValue());
             responseMap.put("public_id", jsonNode.get("public_id").textValue());
+
+            int width = jsonNode.path("width").asInt();
+            responseMap.put("width", jsonNode.has("width") ? width : null);
+            responseMap.put("height", jsonNode.has("height") ? jsonNode.get("height").asInt() : null);
+
+            // Solo las variantes más angostas que el original: c_limit nunca agranda la imagen
+            List<ImageVariant> variants = new ArrayList<>();
+            for (JsonNode eager : jsonNode.path("eager")) {
+                int variantWidth = eager.path("width").asInt();
+                if (variantWidth > 0 && variantWidth < width) {
+                    variants.add(new ImageVariant(variantWidth, eager.get("secure_url").textValue()));
+                }
+            }
+            responseMap.put("variants", variants);
         } catch (Exception e) {
             throw new RuntimeException("Error parsing Cloudinary response", e);
         }
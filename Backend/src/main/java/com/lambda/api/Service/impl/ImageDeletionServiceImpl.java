@@ -0,0 +1,117 @@
+package com.lambda.api.Service.impl;
+
+import com.lambda.api.Entities.ImageDeletion;
+import com.lambda.api.Repositories.ImageDeletionRepository;
+import com.lambda.api.Service.ImageStorageService;
+import com.lambda.api.Service.ImageDeletionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Transactional outbox for storage deletions. Rows are written in the caller's transaction, so a
+ * rolled back delete never removes the remote asset and a committed one is always retried until it succeeds.
+ * Claimed rows are leased rather than kept locked, so no connection is held during the storage calls.
+ */
+@Service
+public class ImageDeletionServiceImpl implements ImageDeletionService {
+
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    // Cloudinary's multi-resource delete accepts at most 100 public ids per call.
+    private static final int MAX_BATCH_SIZE = 100;
+
+    private final ImageDeletionRepository repository;
+    private final ImageStorageService storageService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${IMAGE_DELETION_BATCH_SIZE:100}")
+    private int batchSize;
+    @Value("${IMAGE_DELETION_LEASE_SECONDS:120}")
+    private long leaseSeconds;
+
+    public ImageDeletionServiceImpl(ImageDeletionRepository repository, ImageStorageService storageService,
+                                    PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.storageService = storageService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String publicId) {
+
+        repository.save(ImageDeletion.of(publicId));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAll(List<String> publicIds) {
+
+        repository.saveAll(publicIds.stream().map(ImageDeletion::of).toList());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${IMAGE_DELETION_POLL_MS:10000}")
+    public void processDueDeletions() {
+
+        List<ImageDeletion> claimed;
+        do {
+            claimed = claimBatch();
+            if (claimed.isEmpty()) {
+                return;
+            }
+
+            // One Admin API call removes the whole claimed batch.
+            List<String> publicIds = claimed.stream().map(ImageDeletion::getPublicId).distinct().toList();
+            Throwable error = storageService.deleteAll(publicIds)
+                    .handle((ok, e) -> e)
+                    .join();
+
+            complete(claimed, error);
+        } while (claimed.size() == batchSize());
+    }
+
+    private List<ImageDeletion> claimBatch() {
+
+        return transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<ImageDeletion> due = repository.findDueForUpdate(now, batchSize());
+            // The lease hides the rows from other pollers; if this instance dies they become due again.
+            due.forEach(deletion -> deletion.lease(now.plusSeconds(leaseSeconds)));
+            return due;
+        });
+    }
+
+    private void complete(List<ImageDeletion> claimed, Throwable error) {
+
+        if (error == null) {
+            repository.deleteAllByIdInBatch(claimed.stream().map(ImageDeletion::getId).toList());
+            return;
+        }
+        Instant now = Instant.now();
+        claimed.forEach(deletion -> deletion.retryAt(now.plus(backoff(deletion.getAttempts())), error.getMessage()));
+        repository.saveAll(claimed);
+    }
+
+    private int batchSize() {
+
+        return Math.min(batchSize, MAX_BATCH_SIZE);
+    }
+
+    private Duration backoff(int attempts) {
+
+        long exponential = BASE_BACKOFF.toMillis() << Math.min(attempts, 10);
+        long capped = Math.min(exponential, MAX_BACKOFF.toMillis());
+        return Duration.ofMillis(capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1));
+    }
+}
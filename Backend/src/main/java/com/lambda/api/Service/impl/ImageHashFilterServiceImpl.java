@@ -0,0 +1,169 @@
+package com.lambda.api.Service.impl;
+
+import com.lambda.api.Dtos.ImageHashFilterStatsDTO;
+import com.lambda.api.Repositories.ImageRepository;
+import com.lambda.api.Service.ImageHashFilterService;
+import com.lambda.api.Utils.CountingBloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Answers "definitely new" for image hashes without a database round trip.
+ * Inserts are added right away (a rolled back insert only costs a false positive); deletes are
+ * applied after commit. The filter is rebuilt at startup and periodically, which also picks up
+ * hashes stored by other instances. A miss is never trusted for correctness: every insert path
+ * still goes through the unique hash constraint.
+ */
+@Service
+public class ImageHashFilterServiceImpl implements ImageHashFilterService {
+
+    private final ImageRepository repository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long capacity;
+    private final double falsePositiveRate;
+
+    private final Object lock = new Object();
+    private volatile CountingBloomFilter filter;
+    private List<byte[]> addedDuringRebuild;
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder definitelyNew = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public ImageHashFilterServiceImpl(ImageRepository repository, PlatformTransactionManager transactionManager,
+                                      @Value("${IMAGE_HASH_FILTER_CAPACITY:100000}") long capacity,
+                                      @Value("${IMAGE_HASH_FILTER_FPP:0.01}") double falsePositiveRate) {
+        this.repository = repository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.capacity = capacity;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @Override
+    public boolean mightContain(String hash) {
+
+        CountingBloomFilter current = filter;
+
+        if (current == null) {
+            return true;
+        }
+        lookups.increment();
+        if (current.mightContain(decode(hash))) {
+            return true;
+        }
+        definitelyNew.increment();
+        return false;
+    }
+
+    @Override
+    public void recordFalsePositive() {
+
+        if (filter != null) {
+            falsePositives.increment();
+        }
+    }
+
+    @Override
+    public void add(String hash) {
+
+        byte[] digest = decode(hash);
+
+        synchronized (lock) {
+            if (filter != null) {
+                filter.add(digest);
+            }
+            if (addedDuringRebuild != null) {
+                addedDuringRebuild.add(digest);
+            }
+        }
+    }
+
+    @Override
+    public void remove(String hash) {
+
+        byte[] digest = decode(hash);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeNow(digest);
+                }
+            });
+        } else {
+            removeNow(digest);
+        }
+    }
+
+    @Override
+    @Scheduled(initialDelay = 0, fixedDelayString = "${IMAGE_HASH_FILTER_REFRESH_MS:900000}")
+    public void rebuild() {
+
+        synchronized (lock) {
+            addedDuringRebuild = new ArrayList<>();
+        }
+        try {
+            // Streamed, so only one fetch of digests is on the heap at a time; the count sizes the filter up front.
+            CountingBloomFilter rebuilt = readOnlyTransaction.execute(status -> {
+                CountingBloomFilter streamed = CountingBloomFilter.create(Math.max(capacity, repository.count()), falsePositiveRate);
+                try (Stream<byte[]> hashes = repository.streamAllHashes()) {
+                    hashes.forEach(streamed::add);
+                }
+                return streamed;
+            });
+
+            synchronized (lock) {
+                // Inserts that committed after the snapshot was read would otherwise be lost in the swap.
+                addedDuringRebuild.forEach(rebuilt::add);
+                filter = rebuilt;
+            }
+        } finally {
+            synchronized (lock) {
+                addedDuringRebuild = null;
+            }
+        }
+    }
+
+    @Override
+    public ImageHashFilterStatsDTO getStats() {
+
+        CountingBloomFilter current = filter;
+        long negatives = definitelyNew.sum();
+        long positivesMissed = falsePositives.sum();
+        double observed = negatives + positivesMissed == 0 ? 0 : (double) positivesMissed / (negatives + positivesMissed);
+
+        if (current == null) {
+            return new ImageHashFilterStatsDTO(false, 0, capacity, 0, 0, 0,
+                    lookups.sum(), negatives, positivesMissed, observed);
+        }
+        return new ImageHashFilterStatsDTO(true, current.entries(), current.capacity(), current.hashFunctions(),
+                current.memoryBytes(), current.expectedFalsePositiveRate(),
+                lookups.sum(), negatives, positivesMissed, observed);
+    }
+
+    // Deletes that race a rebuild are dropped: a stale entry only costs a false positive.
+    private void removeNow(byte[] digest) {
+
+        synchronized (lock) {
+            if (filter != null && addedDuringRebuild == null) {
+                filter.remove(digest);
+            }
+        }
+    }
+
+    private byte[] decode(String hash) {
+        return Base64.getDecoder().decode(hash);
+    }
+}
@@ -0,0 +1,104 @@
+package com.lambda.api.Service.impl;
+
+import com.lambda.api.Service.ImageProcessingService;
+import com.lambda.api.Utils.ImageMetadata;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Decodes each upload once, on the bounded processing pool, to read its intrinsic size and render a tiny
+ * JPEG placeholder. The decode is subsampled, so a full-resolution raster is never allocated.
+ */
+@Service
+public class ImageProcessingServiceImpl implements ImageProcessingService {
+
+    private static final int PLACEHOLDER_WIDTH = 16;
+    private static final float PLACEHOLDER_QUALITY = 0.5f;
+
+    private final Executor executor;
+
+    public ImageProcessingServiceImpl(@Qualifier("imageProcessingExecutor") Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<ImageMetadata> analyze(Path file) {
+
+        return CompletableFuture.supplyAsync(() -> decode(file), executor);
+    }
+
+    private ImageMetadata decode(Path file) {
+
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                // Formats without a bundled reader (e.g. WebP) fall back to the dimensions Cloudinary reports.
+                return ImageMetadata.UNKNOWN;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, width / (PLACEHOLDER_WIDTH * 4));
+                param.setSourceSubsampling(step, step, 0, 0);
+
+                return new ImageMetadata(width, height, placeholder(reader.read(0, param)));
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            return ImageMetadata.UNKNOWN;
+        }
+    }
+
+    private String placeholder(BufferedImage source) throws IOException {
+
+        int height = Math.max(1, Math.round((float) source.getHeight() * PLACEHOLDER_WIDTH / source.getWidth()));
+
+        BufferedImage scaled = new BufferedImage(PLACEHOLDER_WIDTH, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, PLACEHOLDER_WIDTH, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(PLACEHOLDER_QUALITY);
+
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(scaled, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return "data:image/jpeg;base64," + Base64.getEncoder().encodeToString(out.toByteArray());
+    }
+}
@@ -1,72 +1,311 @@
 package com.lambda.api.Service.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lambda.api.Dtos.ImageBatchResultDTO;
+import com.lambda.api.Dtos.ImageBulkDeleteDTO;
+import com.lambda.api.Dtos.ImageBulkDeleteResultDTO;
 import com.lambda.api.Dtos.ImageCreateDTO;
 import com.lambda.api.Dtos.ImageDTO;
+import com.lambda.api.Dtos.ImageJobDTO;
+import com.lambda.api.Dtos.ImageUploadSignatureDTO;
+import com.lambda.api.Dtos.ImageUploadSignatureRequestDTO;
 import com.lambda.api.Entities.Image;
+import com.lambda.api.Entities.ImageJob;
+import com.lambda.api.Entities.valueObjects.ImageBatchStatus;
+import com.lambda.api.Entities.valueObjects.ImageJobStatus;
 import com.lambda.api.Exceptions.ImageException;
 import com.lambda.api.Repositories.BannerRepository;
+import com.lambda.api.Repositories.ImageJobRepository;
 import com.lambda.api.Repositories.ImageRepository;
 import com.lambda.api.Repositories.MenuItemRepository;
-import com.lambda.api.Service.CloudinaryService;
+import com.lambda.api.Service.ImageDeletionService;
+import com.lambda.api.Service.ImageHashFilterService;
+import com.lambda.api.Service.ImageProcessingService;
 import com.lambda.api.Service.ImageService;
-import com.lambda.api.Utils.Base64MultipartFile;
-import com.lambda.api.Utils.ImageHashUtils;
+import com.lambda.api.Service.ImageStorageService;
+import com.lambda.api.Service.ImageUploadClaimService;
+import com.lambda.api.Utils.ImageMetadata;
 import com.lambda.api.Utils.Mapper;
+import com.lambda.api.Utils.SingleFlight;
+import com.lambda.api.Utils.SpooledImage;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
 
 @Service
 public class ImageServiceImpl implements ImageService {
 
+    private static final long MAX_IMAGE_BYTES = 3 * 1024 * 1024;
+    private static final int MAX_BULK_DELETE = 500;
+    private static final String DIRECT_UPLOAD_PREFIX = "images/";
+    private static final int HASH_BYTES = 32;
+
     private final ImageRepository repository;
-    private final CloudinaryService cloudinaryService;
+    private final ImageJobRepository jobRepository;
+    private final ImageStorageService storageService;
+    private final ImageDeletionService imageDeletionService;
+    private final ImageHashFilterService hashFilter;
+    private final ImageUploadClaimService uploadClaimService;
+    private final ImageProcessingService imageProcessingService;
+    private final ObjectMapper objectMapper;
     private final BannerRepository bannerRepository;
     private final MenuItemRepository menuItemRepository;
+    private final Executor ingestionExecutor;
+    private final TransactionTemplate transactionTemplate;
+    // Completes with the committed row, so a hash stays in flight until its insert is visible to everyone.
+    private final SingleFlight<String, Image> uploads = new SingleFlight<>();
+    // Waiting on another instance's claim is mostly sleeping; it must not hold a request or pool thread.
+    private final ExecutorService claimWaiters = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${IMAGE_JOB_STALE_SECONDS:600}")
+    private long staleJobSeconds;
+    @Value("${IMAGE_JOB_RETENTION_HOURS:24}")
+    private long jobRetentionHours;
+    @Value("${IMAGE_UPLOAD_CLAIM_WAIT_MS:30000}")
+    private long uploadClaimWaitMillis;
+    @Value("${IMAGE_BATCH_MAX_FILES:50}")
+    private int batchMaxFiles;
+    @Value("${IMAGE_BATCH_PARALLELISM:4}")
+    private int batchParallelism;
+    @Value("${IMAGE_ORPHAN_GC_ENABLED:false}")
+    private boolean orphanGcEnabled;
+    @Value("${IMAGE_ORPHAN_GC_MIN_AGE_HOURS:168}")
+    private long orphanGcMinAgeHours;
+    @Value("${IMAGE_ORPHAN_GC_BATCH_SIZE:100}")
+    private int orphanGcBatchSize;
+    @Value("${IMAGE_ORPHAN_GC_MAX_BATCHES:10}")
+    private int orphanGcMaxBatches;
 
 
-    public ImageServiceImpl(ImageRepository repository, CloudinaryService cloudinaryService, BannerRepository bannerRepository, MenuItemRepository menuItemRepository) {
+    public ImageServiceImpl(ImageRepository repository, ImageJobRepository jobRepository, ImageStorageService storageService,
+                            ImageDeletionService imageDeletionService, ImageHashFilterService hashFilter,
+                            ImageUploadClaimService uploadClaimService,
+                            ImageProcessingService imageProcessingService,
+                            ObjectMapper objectMapper, BannerRepository bannerRepository, MenuItemRepository menuItemRepository,
+                            @Qualifier("imageIngestionExecutor") Executor ingestionExecutor,
+                            PlatformTransactionManager transactionManager) {
         this.repository = repository;
-        this.cloudinaryService = cloudinaryService;
+        this.jobRepository = jobRepository;
+        this.storageService = storageService;
+        this.imageDeletionService = imageDeletionService;
+        this.hashFilter = hashFilter;
+        this.uploadClaimService = uploadClaimService;
+        this.imageProcessingService = imageProcessingService;
+        this.objectMapper = objectMapper;
         this.bannerRepository = bannerRepository;
         this.menuItemRepository = menuItemRepository;
+        this.ingestionExecutor = ingestionExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
+    // Only validates, hashes and enqueues; the storage round trip happens on the ingestion workers.
     @Override
-    @Transactional
-    public ImageDTO createImage(ImageCreateDTO request) throws Exception {
+    public ImageJobDTO submitImage(ImageCreateDTO request) throws Exception {
+
+        if (request.base64image() == null || request.base64image().isBlank()) {
+            throw new IllegalArgumentException("File cannot be null");
+        }
 
         byte[] imageBytes = Base64.getDecoder().decode(request.base64image());
 
-        MultipartFile file = new Base64MultipartFile(
-                imageBytes
-        );
+        SpooledImage image = SpooledImage.spool(new ByteArrayInputStream(imageBytes), MAX_IMAGE_BYTES);
+        boolean enqueued = false;
+        try {
+            Optional<Image> existingImage = findExisting(image.hash());
 
-        if (file.isEmpty()) {
-            throw new IllegalArgumentException("File cannot be null");
+            if (existingImage.isPresent()){
+                return Mapper.imageJobToDto(jobRepository.save(ImageJob.completed(existingImage.get())));
+            }
+
+            ImageJob job = jobRepository.save(ImageJob.pending(image.hash()));
+            try {
+                ingestionExecutor.execute(() -> ingest(job.getId(), image));
+                enqueued = true;
+            } catch (TaskRejectedException e) {
+                job.fail("Ingestion queue is full");
+                jobRepository.save(job);
+                throw e;
+            }
+            return Mapper.imageJobToDto(job);
+        } finally {
+            if (!enqueued) {
+                image.close();
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ImageJobDTO getImageJob(UUID id) {
+
+        return jobRepository.findById(id)
+                .map(Mapper::imageJobToDto)
+                .orElseThrow(()-> new EntityNotFoundException("Image job not found with ID: " + id));
+    }
+
+    // No surrounding transaction: the storage round trip must not pin a pooled connection.
+    @Override
+    public ImageDTO uploadImage(InputStream body) throws Exception {
+
+        try (SpooledImage image = SpooledImage.spool(body, MAX_IMAGE_BYTES)) {
+
+            Optional<Image> existingImage = findExisting(image.hash());
+
+            if (existingImage.isPresent()){
+                return Mapper.imageToDto(existingImage.get());
+            }
+
+            CompletableFuture<ImageMetadata> metadata = imageProcessingService.analyze(image.file());
+
+            return Mapper.imageToDto(ingestShared(image, metadata));
         }
+    }
+
+    // Like uploadImage, no transaction spans the storage calls; only the final insert runs in one.
+    @Override
+    public List<ImageBatchResultDTO> uploadImages(InputStream archive) throws Exception {
+
+        Map<String, SpooledImage> spooled = new LinkedHashMap<>();
+        Map<String, String> failures = new HashMap<>();
+        try {
+            spoolArchive(archive, spooled, failures);
+
+            if (spooled.isEmpty() && failures.isEmpty()) {
+                throw new IllegalArgumentException("Archive contains no images");
+            }
+
+            Set<String> hashes = new HashSet<>();
+            spooled.values().forEach(image -> hashes.add(image.hash()));
+
+            Set<String> candidates = new HashSet<>();
+            hashes.stream().filter(hashFilter::mightContain).forEach(candidates::add);
+
+            Map<String, Image> existing = new HashMap<>();
+            if (!candidates.isEmpty()) {
+                repository.findAllByHashIn(candidates).forEach(image -> existing.put(image.getHash(), image));
+            }
+            for (int i = existing.size(); i < candidates.size(); i++) {
+                hashFilter.recordFalsePositive();
+            }
+
+            Map<String, SpooledImage> misses = new LinkedHashMap<>();
+            spooled.values().stream()
+                    .filter(image -> !existing.containsKey(image.hash()))
+                    .forEach(image -> misses.putIfAbsent(image.hash(), image));
 
-        var hashImage = ImageHashUtils.calculateHash(file);
-        Optional<Image> existingImage = repository.findByHash(hashImage);
+            Map<String, Image> created = uploadConcurrently(misses);
+
+            List<ImageBatchResultDTO> results = new ArrayList<>();
+            for (Map.Entry<String, SpooledImage> entry : spooled.entrySet()) {
+                String hash = entry.getValue().hash();
+                if (existing.containsKey(hash)) {
+                    results.add(new ImageBatchResultDTO(entry.getKey(), ImageBatchStatus.EXISTING, Mapper.imageToDto(existing.get(hash)), null));
+                } else if (created.containsKey(hash)) {
+                    results.add(new ImageBatchResultDTO(entry.getKey(), ImageBatchStatus.CREATED, Mapper.imageToDto(created.get(hash)), null));
+                } else {
+                    results.add(new ImageBatchResultDTO(entry.getKey(), ImageBatchStatus.FAILED, null, "Image uploading failed!"));
+                }
+            }
+            failures.forEach((name, error) -> results.add(new ImageBatchResultDTO(name, ImageBatchStatus.FAILED, null, error)));
+
+            return results;
+        } finally {
+            for (SpooledImage image : spooled.values()) {
+                image.close();
+            }
+        }
+    }
+
+    // The public id is derived from the claimed hash; completeUpload checks the stored bytes against it.
+    @Override
+    @Transactional(readOnly = true)
+    public ImageUploadSignatureDTO signUpload(ImageUploadSignatureRequestDTO request) {
+
+        byte[] hash = decodeHash(request.hash());
+        String canonicalHash = Base64.getEncoder().encodeToString(hash);
+
+        Optional<Image> existingImage = findExisting(canonicalHash);
 
         if (existingImage.isPresent()){
-            return Mapper.imageToDto(existingImage.get());
+            return new ImageUploadSignatureDTO(Mapper.imageToDto(existingImage.get()), null, null);
         }
 
-        Map upload = cloudinaryService.upload(file);
+        if (!storageService.supportsDirectUpload()) {
+            // The client falls back to streaming the file through /api/image/upload.
+            return new ImageUploadSignatureDTO(null, null, null);
+        }
+
+        String publicId = DIRECT_UPLOAD_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+
+        return new ImageUploadSignatureDTO(null, storageService.uploadUrl(), storageService.signUpload(publicId));
+    }
 
-        Image newImage = Image.createImage(upload, hashImage);
+    @Override
+    public ImageDTO completeUpload(String uploadResult) {
 
-        repository.save(newImage);
+        Map<String, Object> upload = storageService.verifyUploadResult(uploadResult);
+        String publicId = (String) upload.get("public_id");
 
-        return Mapper.imageToDto(newImage);
+        if (!publicId.startsWith(DIRECT_UPLOAD_PREFIX)) {
+            throw new ImageException("Upload was not signed for direct ingestion");
+        }
+
+        String hash;
+        try {
+            hash = Base64.getEncoder().encodeToString(
+                    Base64.getUrlDecoder().decode(publicId.substring(DIRECT_UPLOAD_PREFIX.length())));
+        } catch (IllegalArgumentException e) {
+            throw new ImageException("Upload was not signed for direct ingestion");
+        }
+
+        Optional<Image> existingImage = findExisting(hash);
+        if (existingImage.isPresent() && existingImage.get().getPublicId().equals(publicId)) {
+            return Mapper.imageToDto(existingImage.get());
+        }
+
+        ImageMetadata metadata = verifyStoredImage(publicId, hash);
+
+        Image uploaded = Image.createImage(upload, hash, metadata);
+        try {
+            return Mapper.imageToDto(storeUpload(uploaded));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent callback or upload stored the same hash first.
+            return Mapper.imageToDto(storeUpload(uploaded));
+        }
     }
 
     @Override
@@ -76,33 +315,437 @@ public class ImageServiceImpl implements ImageService {
         Image image = repository.findById(id)
                 .orElseThrow(()-> new EntityNotFoundException("Image not found with ID: " + id));
 
-        String publicUrl = image.getPublicUrl();
-
-        boolean isUsedInMenuItem = menuItemRepository.existsByImageUrl(publicUrl);
-        boolean isUsedInBanner = bannerRepository.existsByImageUrl(publicUrl);
+        boolean isUsedInMenuItem = menuItemRepository.existsByImageId(id);
+        boolean isUsedInBanner = bannerRepository.existsByImageId(id);
 
         if (isUsedInMenuItem || isUsedInBanner) {
             throw new ImageException("Image URL is associated with a MenuItem or Banner and cannot be deleted.");
         }
 
-        cloudinaryService.delete(image.getPublicId());
-
+        menuItemRepository.detachImages(List.of(id));
         repository.delete(image);
+        hashFilter.remove(image.getHash());
+
+        imageDeletionService.enqueue(image.getPublicId());
+    }
+
+    @Override
+    @Transactional
+    public ImageBulkDeleteResultDTO deleteImages(ImageBulkDeleteDTO request) {
+
+        if (request.ids() == null || request.ids().isEmpty()) {
+            throw new IllegalArgumentException("Image ids cannot be empty");
+        }
+        if (request.ids().size() > MAX_BULK_DELETE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_DELETE + " images can be deleted at once");
+        }
+
+        Set<Long> ids = new LinkedHashSet<>(request.ids());
+        Set<Long> inUse = new HashSet<>(repository.findReferencedIds(ids));
+
+        List<Image> images = repository.findAllById(ids.stream().filter(id -> !inUse.contains(id)).toList());
+
+        if (!images.isEmpty()) {
+            menuItemRepository.detachImages(images.stream().map(Image::getId).toList());
+        }
+        repository.deleteAllInBatch(images);
+        images.forEach(image -> hashFilter.remove(image.getHash()));
+        imageDeletionService.enqueueAll(images.stream().map(Image::getPublicId).toList());
+
+        Set<Long> deleted = new HashSet<>(images.stream().map(Image::getId).toList());
+
+        return new ImageBulkDeleteResultDTO(
+                ids.stream().filter(deleted::contains).toList(),
+                ids.stream().filter(inUse::contains).toList(),
+                ids.stream().filter(id -> !deleted.contains(id) && !inUse.contains(id)).toList()
+        );
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ImageDTO> getAllImages() {
 
-        var images = repository.findAll();
+        return repository.findAllImageDtos();
+    }
+
+    // Jobs whose worker died with its instance never finish; fail them so pollers stop waiting.
+    @Scheduled(fixedRateString = "${IMAGE_JOB_SWEEP_INTERVAL_MS:300000}")
+    public void sweepImageJobs() {
 
-        return images.stream()
-                .map(Mapper::imageToDto)
-                .collect(Collectors.toList());
+        Instant now = Instant.now();
+        jobRepository.failStaleJobs(ImageJobStatus.PENDING, ImageJobStatus.FAILED, "Image ingestion timed out",
+                now.minusSeconds(staleJobSeconds), now);
+        jobRepository.deleteFinishedBefore(ImageJobStatus.PENDING, now.minus(Duration.ofHours(jobRetentionHours)));
+        uploadClaimService.purgeExpired();
     }
 
-    @Override
-    public boolean existsByPublicUrl(String url) {
-        return repository.existsByPublicUrl(url);
+    // The admin gallery keeps unattached images on purpose, so only images older than the grace period are reclaimed.
+    @Scheduled(fixedDelayString = "${IMAGE_ORPHAN_GC_INTERVAL_MS:3600000}")
+    public void reclaimOrphanImages() {
+
+        if (!orphanGcEnabled) {
+            return;
+        }
+
+        Instant cutoff = Instant.now().minus(Duration.ofHours(orphanGcMinAgeHours));
+
+        for (int batch = 0; batch < orphanGcMaxBatches; batch++) {
+            Integer reclaimed = transactionTemplate.execute(status -> {
+                List<Image> orphans = repository.findOrphansForUpdate(cutoff, orphanGcBatchSize);
+
+                if (!orphans.isEmpty()) {
+                    menuItemRepository.detachImages(orphans.stream().map(Image::getId).toList());
+                }
+                repository.deleteAllInBatch(orphans);
+                orphans.forEach(image -> hashFilter.remove(image.getHash()));
+                imageDeletionService.enqueueAll(orphans.stream().map(Image::getPublicId).toList());
+
+                return orphans.size();
+            });
+            if (reclaimed == null || reclaimed < orphanGcBatchSize) {
+                return;
+            }
+        }
     }
+
+    private void spoolArchive(InputStream archive, Map<String, SpooledImage> spooled, Map<String, String> failures) throws Exception {
+
+        try (ZipInputStream zip = new ZipInputStream(archive)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                if (spooled.size() + failures.size() >= batchMaxFiles) {
+                    throw new ImageException("Too many files. Max is " + batchMaxFiles + " per batch");
+                }
+                String name = entry.getName();
+                try {
+                    SpooledImage previous = spooled.put(name, SpooledImage.spool(zip, MAX_IMAGE_BYTES));
+                    if (previous != null) {
+                        previous.close();
+                    }
+                } catch (ImageException | IllegalArgumentException e) {
+                    failures.put(name, e.getMessage());
+                }
+            }
+        } catch (ZipException e) {
+            throw new ImageException("Invalid ZIP archive");
+        }
+    }
+
+    // Hashes this batch leads are uploaded concurrently and inserted in one statement; their flights and claims
+    // are only released after that insert commits. Hashes already in flight elsewhere on this instance are joined.
+    private Map<String, Image> uploadConcurrently(Map<String, SpooledImage> misses) throws InterruptedException {
+
+        Semaphore permits = new Semaphore(batchParallelism);
+        Map<String, CompletableFuture<Image>> flights = new LinkedHashMap<>();
+        Map<String, CompletableFuture<Image>> committed = new HashMap<>();
+        Map<String, CompletableFuture<BatchUpload>> pending = new LinkedHashMap<>();
+        Map<String, BatchUpload> uploaded = new LinkedHashMap<>();
+
+        try {
+            for (SpooledImage image : misses.values()) {
+                permits.acquire();
+                CompletableFuture<Image> stored = new CompletableFuture<>();
+                CompletableFuture<Image> flight = uploads.execute(image.hash(), () -> {
+                    committed.put(image.hash(), stored);
+                    return stored;
+                });
+                flights.put(image.hash(), flight);
+
+                if (!committed.containsKey(image.hash())) {
+                    permits.release();
+                    continue;
+                }
+                CompletableFuture<ImageMetadata> metadata = imageProcessingService.analyze(image.file());
+                pending.put(image.hash(), CompletableFuture.supplyAsync(() -> uploadClaimed(image, metadata), claimWaiters)
+                        .whenComplete((upload, error) -> permits.release()));
+            }
+
+            pending.forEach((hash, future) -> {
+                try {
+                    uploaded.put(hash, future.join());
+                } catch (CompletionException e) {
+                    // Reported as FAILED for this file; the rest of the batch still goes through.
+                    committed.get(hash).completeExceptionally(e.getCause());
+                }
+            });
+
+            Map<String, Image> stored = insertUploads(uploaded);
+            committed.forEach((hash, future) -> {
+                if (stored.containsKey(hash)) {
+                    future.complete(stored.get(hash));
+                } else {
+                    future.completeExceptionally(new ImageException("Image uploading failed!"));
+                }
+            });
+        } catch (InterruptedException | RuntimeException e) {
+            // Flights this batch leads must never stay open, or later uploads of the same hash would hang on them.
+            committed.values().forEach(future -> future.completeExceptionally(e));
+            throw e;
+        } finally {
+            uploaded.forEach((hash, upload) -> releaseClaim(hash, upload.claim()));
+        }
+
+        Map<String, Image> results = new LinkedHashMap<>();
+        flights.forEach((hash, flight) -> {
+            try {
+                results.put(hash, flight.join());
+            } catch (CompletionException e) {
+                // Reported as FAILED for this file.
+            }
+        });
+        return results;
+    }
+
+    // Runs on a claim waiter. The claim, if any, is handed back and released by the caller after the insert.
+    private BatchUpload uploadClaimed(SpooledImage image, CompletableFuture<ImageMetadata> metadata) {
+
+        UploadClaim claim = claim(image.hash());
+        if (claim.stored() != null) {
+            return new BatchUpload(claim.stored(), null);
+        }
+        try {
+            Map<String, Object> upload = storageService.upload(image.file(), image.hash());
+            return new BatchUpload(Image.createImage(upload, image.hash(), metadata.join()), claim.owner());
+        } catch (RuntimeException e) {
+            releaseClaim(image.hash(), claim.owner());
+            throw e;
+        }
+    }
+
+    private Map<String, Image> insertUploads(Map<String, BatchUpload> uploaded) {
+
+        Map<String, Image> stored = new HashMap<>();
+        List<Image> images = new ArrayList<>();
+        uploaded.forEach((hash, upload) -> {
+            if (upload.image().getId() != null) {
+                stored.put(hash, upload.image());
+            } else {
+                images.add(upload.image());
+            }
+        });
+
+        if (images.isEmpty()) {
+            return stored;
+        }
+
+        return transactionTemplate.execute(status -> {
+            repository.insertAll(
+                    images.stream().map(Image::getHash).toArray(String[]::new),
+                    images.stream().map(Image::getPublicUrl).toArray(String[]::new),
+                    images.stream().map(Image::getPublicId).toArray(String[]::new),
+                    images.stream().map(Image::getWidth).toArray(Integer[]::new),
+                    images.stream().map(Image::getHeight).toArray(Integer[]::new),
+                    images.stream().map(Image::getPlaceholder).toArray(String[]::new),
+                    images.stream().map(image -> toJson(image.getVariants())).toArray(String[]::new)
+            );
+
+            Map<String, Image> inserted = new HashMap<>();
+            repository.findAllByHashIn(images.stream().map(Image::getHash).toList())
+                    .forEach(image -> inserted.put(image.getHash(), image));
+            inserted.keySet().forEach(hashFilter::add);
+
+            // A concurrent upload stored some hashes first; our copies of those assets are redundant.
+            List<String> redundant = images.stream()
+                    .filter(image -> inserted.containsKey(image.getHash())
+                            && !image.getPublicId().equals(inserted.get(image.getHash()).getPublicId()))
+                    .map(Image::getPublicId)
+                    .toList();
+            if (!redundant.isEmpty()) {
+                imageDeletionService.enqueueAll(redundant);
+            }
+            stored.putAll(inserted);
+            return stored;
+        });
+    }
+
+    private String toJson(Object value) {
+
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void ingest(UUID jobId, SpooledImage image) {
+
+        try (image) {
+            CompletableFuture<ImageMetadata> metadata = imageProcessingService.analyze(image.file());
+            completeJob(jobId, ingestShared(image, metadata));
+        } catch (Exception e) {
+            jobRepository.findById(jobId).ifPresent(job -> {
+                job.fail("Image uploading failed!");
+                jobRepository.save(job);
+            });
+        }
+    }
+
+    private Image ingestShared(SpooledImage image, CompletableFuture<ImageMetadata> metadata) {
+        try {
+            return ingestOnce(image, metadata).join();
+        } catch (CompletionException e) {
+            throw new RuntimeException("Image uploading failed!", e.getCause());
+        }
+    }
+
+    // Identical bytes in flight on this instance share one upload and the row it stored.
+    private CompletableFuture<Image> ingestOnce(SpooledImage image, CompletableFuture<ImageMetadata> metadata) {
+
+        return uploads.execute(image.hash(),
+                () -> CompletableFuture.supplyAsync(() -> ingestClaimed(image, metadata), claimWaiters));
+    }
+
+    // The claim is released only after storeUpload has committed, so a waiter that finds it gone also finds the row.
+    private Image ingestClaimed(SpooledImage image, CompletableFuture<ImageMetadata> metadata) {
+
+        UploadClaim claim = claim(image.hash());
+        if (claim.stored() != null) {
+            return claim.stored();
+        }
+        try {
+            Map<String, Object> upload = storageService.upload(image.file(), image.hash());
+            Image uploaded = Image.createImage(upload, image.hash(), metadata.join());
+            try {
+                return storeUpload(uploaded);
+            } catch (DataIntegrityViolationException e) {
+                // Another upload stored the same hash first; the retry returns that row.
+                return storeUpload(uploaded);
+            }
+        } finally {
+            releaseClaim(image.hash(), claim.owner());
+        }
+    }
+
+    // Across instances the claim row decides who uploads; the others wait for its row instead of uploading again.
+    private UploadClaim claim(String hash) {
+
+        Instant deadline = Instant.now().plusMillis(uploadClaimWaitMillis);
+        long backoffMillis = 100;
+        try {
+            while (true) {
+                UUID owner = UUID.randomUUID();
+                if (uploadClaimService.tryClaim(hash, owner)) {
+                    Optional<Image> stored = repository.findByHash(hash);
+                    if (stored.isPresent()) {
+                        releaseClaim(hash, owner);
+                        return new UploadClaim(null, stored.get());
+                    }
+                    return new UploadClaim(owner, null);
+                }
+
+                Optional<Image> stored = repository.findByHash(hash);
+                if (stored.isPresent()) {
+                    return new UploadClaim(null, stored.get());
+                }
+                if (Instant.now().isAfter(deadline)) {
+                    // Give up waiting; the unique hash constraint still keeps a single row.
+                    return new UploadClaim(null, null);
+                }
+                Thread.sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, 1000);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImageException("Interrupted while waiting for a concurrent upload");
+        }
+    }
+
+    // The upload signature only covers the public id and version, so the bytes that reached storage
+    // are hashed again, and the dimensions are read from those verified bytes.
+    private ImageMetadata verifyStoredImage(String publicId, String hash) {
+
+        SpooledImage stored;
+        try (InputStream body = storageService.download(publicId)) {
+            stored = SpooledImage.spool(body, MAX_IMAGE_BYTES);
+        } catch (ImageException | IllegalArgumentException e) {
+            stored = null;
+        } catch (Exception e) {
+            throw new RuntimeException("Image verification failed!", e);
+        }
+
+        try (SpooledImage image = stored) {
+            if (image == null || !hash.equals(image.hash())) {
+                imageDeletionService.enqueue(publicId);
+                throw new ImageException("Uploaded image does not match its hash");
+            }
+            return imageProcessingService.analyze(image.file()).join();
+        } catch (IOException e) {
+            throw new RuntimeException("Image verification failed!", e);
+        }
+    }
+
+    private void releaseClaim(String hash, UUID owner) {
+
+        if (owner == null) {
+            return;
+        }
+        try {
+            uploadClaimService.release(hash, owner);
+        } catch (RuntimeException e) {
+            // The claim expires on its own; a failed release only makes other instances wait longer.
+        }
+    }
+
+    private Optional<Image> findExisting(String hash) {
+
+        if (!hashFilter.mightContain(hash)) {
+            return Optional.empty();
+        }
+        Optional<Image> existing = repository.findByHash(hash);
+        if (existing.isEmpty()) {
+            hashFilter.recordFalsePositive();
+        }
+        return existing;
+    }
+
+    private Image storeUpload(Image uploaded) {
+
+        return transactionTemplate.execute(status -> {
+            Image image = repository.findByHash(uploaded.getHash())
+                    .orElseGet(() -> repository.saveAndFlush(uploaded));
+            hashFilter.add(image.getHash());
+
+            if (!image.getPublicId().equals(uploaded.getPublicId())) {
+                imageDeletionService.enqueue(uploaded.getPublicId());
+            }
+            return image;
+        });
+    }
+
+    private byte[] decodeHash(String hash) {
+
+        if (hash == null || hash.isBlank()) {
+            throw new IllegalArgumentException("Image hash cannot be null");
+        }
+        byte[] decoded;
+        try {
+            decoded = Base64.getDecoder().decode(hash);
+        } catch (IllegalArgumentException e) {
+            decoded = new byte[0];
+        }
+        if (decoded.length != HASH_BYTES) {
+            throw new IllegalArgumentException("Image hash must be a Base64 SHA-256 digest");
+        }
+        return decoded;
+    }
+
+    private void completeJob(UUID jobId, Image image) {
+
+        transactionTemplate.executeWithoutResult(status -> {
+            ImageJob job = jobRepository.findById(jobId)
+                    .orElseThrow(()-> new EntityNotFoundException("Image job not found with ID: " + jobId));
+
+            job.complete(image);
+        });
+    }
+
+    // Exactly one of owner (this caller holds the claim) and stored (the row already exists) is set, or neither
+    // once the wait gave up.
+    private record UploadClaim(UUID owner, Image stored) {}
+
+    // Rows found while claiming already have an id; only fresh uploads still need inserting.
+    private record BatchUpload(Image image, UUID claim) {}
 }
@@ -0,0 +1,52 @@
+package com.lambda.api.Service.impl;
+
+import com.lambda.api.Repositories.ImageUploadClaimRepository;
+import com.lambda.api.Service.ImageUploadClaimService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Cross-instance upload claims, one row per image hash. Each call is its own short transaction, so no
+ * connection is held while the claimant uploads. A claim expires after a lease, so an instance that
+ * dies mid-upload only delays the others until then.
+ */
+@Service
+public class ImageUploadClaimServiceImpl implements ImageUploadClaimService {
+
+    private final ImageUploadClaimRepository repository;
+
+    // Longer than a storage upload plus the insert; the upload times out well before the lease runs out.
+    @Value("${IMAGE_UPLOAD_CLAIM_LEASE_SECONDS:120}")
+    private long leaseSeconds;
+
+    public ImageUploadClaimServiceImpl(ImageUploadClaimRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    @Transactional
+    public boolean tryClaim(String hash, UUID owner) {
+
+        Instant now = Instant.now();
+        repository.deleteExpired(hash, now);
+        return repository.insertIfAbsent(hash, owner, now.plusSeconds(leaseSeconds)) == 1;
+    }
+
+    @Override
+    @Transactional
+    public void release(String hash, UUID owner) {
+
+        repository.deleteOwned(hash, owner);
+    }
+
+    @Override
+    @Transactional
+    public void purgeExpired() {
+
+        repository.deleteAllExpired(Instant.now());
+    }
+}
@@ -0,0 +1,144 @@
+package com.lambda.api.Service.impl;
+
+import com.lambda.api.Exceptions.ImageException;
+import com.lambda.api.Service.LocalImageStorageService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed storage on the local disk. A file is named after the hex SHA-256 of its bytes,
+ * so uploads are idempotent and a stored file never changes, which lets it be served as immutable.
+ */
+@Service
+@ConditionalOnProperty(name = "IMAGE_STORAGE", havingValue = "local")
+public class LocalImageStorageServiceImpl implements LocalImageStorageService {
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+    private final String publicUrl;
+
+    public LocalImageStorageServiceImpl(@Value("${LOCAL_STORAGE_ROOT:./data/images}") String root,
+                                        @Value("${LOCAL_STORAGE_PUBLIC_URL}") String publicUrl) throws IOException {
+        this.root = Files.createDirectories(Path.of(root)).toAbsolutePath().normalize();
+        this.publicUrl = publicUrl.endsWith("/") ? publicUrl.substring(0, publicUrl.length() - 1) : publicUrl;
+    }
+
+    @Override
+    public Map<String, Object> upload(Path file, String hash) {
+
+        String key = HexFormat.of().formatHex(Base64.getDecoder().decode(hash));
+        Path target = pathOf(key);
+        try {
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                // Copied under a temporary name first, so readers never see a partially written file.
+                Path temp = Files.createTempFile(target.getParent(), key, ".tmp");
+                try {
+                    Files.copy(file, temp, StandardCopyOption.REPLACE_EXISTING);
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // Same hash, same bytes: a concurrent upload already stored it.
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Image uploading failed!", e);
+        }
+
+        Map<String, Object> upload = new HashMap<>();
+        upload.put("url", publicUrl + "/api/image/files/" + key);
+        upload.put("public_id", key);
+        upload.put("variants", List.of());
+        return upload;
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> uploadAsync(Path file, String hash) {
+        try {
+            return CompletableFuture.completedFuture(upload(file, hash));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String publicId) {
+        try {
+            if (KEY_PATTERN.matcher(publicId).matches()) {
+                Files.deleteIfExists(pathOf(publicId));
+            }
+            return CompletableFuture.completedFuture(null);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new RuntimeException("Image deletion failed!", e));
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAll(List<String> publicIds) {
+
+        return CompletableFuture.allOf(publicIds.stream().map(this::delete).toArray(CompletableFuture[]::new));
+    }
+
+    @Override
+    public boolean supportsDirectUpload() {
+        return false;
+    }
+
+    @Override
+    public String uploadUrl() {
+        return null;
+    }
+
+    @Override
+    public Map<String, String> signUpload(String publicId) {
+        throw new ImageException("Direct uploads are not supported by the local storage");
+    }
+
+    @Override
+    public Map<String, Object> verifyUploadResult(String responseBody) {
+        throw new ImageException("Direct uploads are not supported by the local storage");
+    }
+
+    @Override
+    public InputStream download(String publicId) {
+
+        Path file = resolve(publicId).orElseThrow(() -> new ImageException("Image not found: " + publicId));
+        try {
+            return Files.newInputStream(file);
+        } catch (IOException e) {
+            throw new RuntimeException("Image download failed!", e);
+        }
+    }
+
+    @Override
+    public Optional<Path> resolve(String key) {
+
+        if (!KEY_PATTERN.matcher(key).matches()) {
+            return Optional.empty();
+        }
+        Path file = pathOf(key);
+        return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    private Path pathOf(String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key);
+    }
+}
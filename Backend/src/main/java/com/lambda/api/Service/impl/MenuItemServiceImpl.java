@@ -1,31 +1,55 @@
 package com.lambda.api.Service.impl;
 
+import com.lambda.api.Dtos.CatalogChangesDTO;
 import com.lambda.api.Dtos.CreateMenuItemDTO;
+import com.lambda.api.Dtos.ImageDTO;
 import com.lambda.api.Dtos.MenuItemDTO;
+import com.lambda.api.Dtos.MenuItemSummaryDTO;
 import com.lambda.api.Dtos.MenuItemUpdateDTO;
 import com.lambda.api.Dtos.ModifyMenuItemImageDTO;
 import com.lambda.api.Entities.Category;
+import com.lambda.api.Entities.Image;
 import com.lambda.api.Entities.MenuItem;
+import com.lambda.api.Entities.valueObjects.ImageVariant;
+import com.lambda.api.Events.CatalogChangedEvent;
+import com.lambda.api.Events.CatalogSection;
 import com.lambda.api.Exceptions.ImageException;
 import com.lambda.api.Repositories.CategoryRepository;
+import com.lambda.api.Repositories.ChangeSequenceRepository;
+import com.lambda.api.Repositories.ImageRepository;
 import com.lambda.api.Repositories.MenuItemRepository;
 import com.lambda.api.Service.MenuItemService;
+import com.lambda.api.Utils.ChangeTokenUtils;
+import com.lambda.api.Utils.DeliveryUrlUtils;
+import com.lambda.api.Utils.ImagePreset;
 import com.lambda.api.Utils.Mapper;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 public class MenuItemServiceImpl implements MenuItemService {
     private final MenuItemRepository menuItemRepository;
     private final CategoryRepository categoryRepository;
+    private final ImageRepository imageRepository;
+    private final ChangeSequenceRepository changeSequenceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public MenuItemServiceImpl(MenuItemRepository menuItemRepository, CategoryRepository categoryRepository) {
+    public MenuItemServiceImpl(MenuItemRepository menuItemRepository, CategoryRepository categoryRepository,
+                               ImageRepository imageRepository, ChangeSequenceRepository changeSequenceRepository,
+                               ApplicationEventPublisher eventPublisher) {
         this.menuItemRepository = menuItemRepository;
         this.categoryRepository = categoryRepository;
+        this.imageRepository = imageRepository;
+        this.changeSequenceRepository = changeSequenceRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -34,23 +58,31 @@ public class MenuItemServiceImpl implements MenuItemService {
 
         var category = categoryRepository.findById(request.newCategoryId())
                 .orElseThrow(() -> new EntityNotFoundException("Category with ID " + request.newCategoryId() + "not found"));
-        var newMenuItem = MenuItem.createMenuItem(request, category);
+        var newMenuItem = MenuItem.createMenuItem(request, category, findImages(request.imageUrls()));
+        newMenuItem.markChanged(changeSequenceRepository.nextChangeSeq());
         menuItemRepository.save(newMenuItem);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(CatalogSection.MENU));
 
         return Mapper.menuToMenuItemDto(newMenuItem);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<MenuItemDTO> getMenuItems() {
+    public List<MenuItemDTO> getMenuItems(ImagePreset preset) {
 
-        List<MenuItem> menuItems = menuItemRepository.findAllMenuItems();
+        List<MenuItemSummaryDTO> menuItems = menuItemRepository.findAllMenuItemSummaries();
 
         if (menuItems.isEmpty()){
             throw new EntityNotFoundException("There are no menu items in the database");
         }
+
+        Map<Long, List<String>> contentItems = groupByMenuId(menuItemRepository.findAllContentItems());
+        Map<Long, List<ImageDTO>> images = groupImagesByMenuId(menuItemRepository.findAllImages());
+
         return menuItems.stream()
-                .map(Mapper::menuToMenuItemDto)
+                .map(item -> Mapper.menuSummaryToMenuItemDto(item,
+                        contentItems.getOrDefault(item.id(), List.of()),
+                        images.getOrDefault(item.id(), List.of()), preset))
                 .collect(Collectors.toList());
     }
 
@@ -69,7 +101,17 @@ public class MenuItemServiceImpl implements MenuItemService {
                     .orElseThrow(() -> new EntityNotFoundException("Category with ID: " + categoryId + "not found"));
         }
 
-        menuItem.updateMenuItem(request, category);
+        List<Image> images = null;
+        if (request.updates().containsKey("imageUrls")){
+
+            @SuppressWarnings("unchecked")
+            List<String> imageUrls = (List<String>) request.updates().get("imageUrls");
+            images = findImages(imageUrls);
+        }
+
+        menuItem.updateMenuItem(request, category, images);
+        menuItem.markChanged(changeSequenceRepository.nextChangeSeq());
+        eventPublisher.publishEvent(CatalogChangedEvent.of(CatalogSection.MENU));
 
         return Mapper.menuToMenuItemDto(menuItem);
     }
@@ -84,8 +126,13 @@ public class MenuItemServiceImpl implements MenuItemService {
             throw new IllegalArgumentException("You can not add more images");
         }
 
-        menuItem.addImage(request.url());
+        Image image = imageRepository.findByPublicUrl(DeliveryUrlUtils.toStoredUrl(request.url()))
+                .orElseThrow(()-> new ImageException("Image url not found in the database"));
+
+        menuItem.addImage(image);
+        menuItem.markChanged(changeSequenceRepository.nextChangeSeq());
         menuItemRepository.save(menuItem);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(CatalogSection.MENU));
 
         return Mapper.menuToMenuItemDto(menuItem);
     }
@@ -96,12 +143,16 @@ public class MenuItemServiceImpl implements MenuItemService {
 
         var menuItem = findMenuItem(request.id());
 
-        if (!menuItem.getImageUrls().contains(request.url())) {
+        String url = DeliveryUrlUtils.toStoredUrl(request.url());
+
+        if (!menuItem.getImageUrls().contains(url)) {
             throw new ImageException("The provided URL does not exist in the image list");
         }
 
-        menuItem.removeImage(request.url());
+        menuItem.removeImage(url);
+        menuItem.markChanged(changeSequenceRepository.nextChangeSeq());
         menuItemRepository.save(menuItem);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(CatalogSection.MENU));
 
         return Mapper.menuToMenuItemDto(menuItem);
     }
@@ -110,16 +161,97 @@ public class MenuItemServiceImpl implements MenuItemService {
     @Transactional
     public String deleteMenuItem(Long menuItemId) {
 
-        var deleted = menuItemRepository.deleteByIdIfExists(menuItemId);
+        var deleted = menuItemRepository.softDeleteById(menuItemId, changeSequenceRepository.nextChangeSeq());
 
         if (deleted == 0) {
 
             throw new EntityNotFoundException("Resource with ID " + menuItemId + " not found");
         }
+        eventPublisher.publishEvent(CatalogChangedEvent.of(CatalogSection.MENU));
 
         return "Success";
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CatalogChangesDTO<MenuItemDTO> getMenuItemChanges(String since) {
+
+        long sinceSeq = ChangeTokenUtils.parseSince(since);
+        List<Object[]> rows = menuItemRepository.findMenuItemChangesSince(sinceSeq);
+
+        List<MenuItemSummaryDTO> upserts = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        long maxChangeSeq = sinceSeq;
+
+        for (Object[] row : rows) {
+            Long id = ((Number) row[0]).longValue();
+            if (Boolean.TRUE.equals(row[7])) {
+                deleted.add(id);
+            } else {
+                upserts.add(new MenuItemSummaryDTO(id, (String) row[1], (String) row[2], (String) row[3],
+                        ((Number) row[4]).intValue(), (String) row[5], ((Number) row[6]).longValue()));
+            }
+            maxChangeSeq = Math.max(maxChangeSeq, ((Number) row[8]).longValue());
+        }
+
+        List<MenuItemDTO> menuItems = List.of();
+        if (!upserts.isEmpty()) {
+            List<Long> ids = upserts.stream().map(MenuItemSummaryDTO::id).toList();
+            Map<Long, List<String>> contentItems = groupByMenuId(menuItemRepository.findContentItemsByMenuIds(ids));
+            Map<Long, List<ImageDTO>> images = groupImagesByMenuId(menuItemRepository.findImagesByMenuIds(ids));
+
+            menuItems = upserts.stream()
+                    .map(item -> Mapper.menuSummaryToMenuItemDto(item,
+                            contentItems.getOrDefault(item.id(), List.of()),
+                            images.getOrDefault(item.id(), List.of()), Mapper.MENU_PRESET))
+                    .toList();
+        }
+
+        return new CatalogChangesDTO<>(menuItems, deleted, ChangeTokenUtils.nextToken(sinceSeq, maxChangeSeq));
+    }
+
+    private Map<Long, List<String>> groupByMenuId(List<Object[]> rows){
+
+        Map<Long, List<String>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            grouped.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return grouped;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, List<ImageDTO>> groupImagesByMenuId(List<Object[]> rows){
+
+        Map<Long, List<ImageDTO>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            List<ImageVariant> variants = row[6] != null ? List.copyOf((List<ImageVariant>) row[6]) : List.of();
+            grouped.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                    .add(new ImageDTO((Long) row[1], (String) row[2], (Integer) row[3], (Integer) row[4], (String) row[5], variants));
+        }
+        return grouped;
+    }
+
+    private List<Image> findImages(List<String> urls){
+
+        if (urls == null || urls.isEmpty()) {
+            return new ArrayList<>();
+        }
+        urls = urls.stream().map(DeliveryUrlUtils::toStoredUrl).toList();
+
+        Map<String, Image> imagesByUrl = new HashMap<>();
+        imageRepository.findAllByPublicUrlIn(urls).forEach(image -> imagesByUrl.put(image.getPublicUrl(), image));
+
+        List<Image> images = new ArrayList<>();
+        for (String url : urls) {
+            Image image = imagesByUrl.get(url);
+            if (image == null) {
+                throw new ImageException("Image url not found in the database: " + url);
+            }
+            images.add(image);
+        }
+        return images;
+    }
+
     private MenuItem findMenuItem(Long id){
 
         return menuItemRepository.findById(id)
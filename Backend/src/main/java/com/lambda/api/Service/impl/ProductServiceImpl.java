@@ -1,54 +1,87 @@
 package com.lambda.api.Service.impl;
 
+import com.lambda.api.Config.CacheConfig;
+import com.lambda.api.Dtos.CatalogChangesDTO;
 import com.lambda.api.Dtos.CreateProductDTO;
 import com.lambda.api.Dtos.ProductDTO;
+import com.lambda.api.Dtos.ProductSearchDTO;
+import com.lambda.api.Dtos.ProductSliceDTO;
 import com.lambda.api.Dtos.ProductUpdateDTO;
 import com.lambda.api.Entities.Product;
+import com.lambda.api.Entities.valueObjects.UnitOfMeasure;
+import com.lambda.api.Events.CatalogChangedEvent;
+import com.lambda.api.Events.CatalogSection;
+import com.lambda.api.Repositories.ChangeSequenceRepository;
 import com.lambda.api.Repositories.ProductRepository;
 import com.lambda.api.Service.ProductService;
+import com.lambda.api.Utils.ChangeTokenUtils;
 import com.lambda.api.Utils.Mapper;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Predicate;
+
 @Service
 public class ProductServiceImpl implements ProductService {
 
+    private static final Set<String> SORTABLE_FIELDS = Set.of("id", "name", "price", "cost", "quantity");
+
     private final ProductRepository productRepository;
+    private final ChangeSequenceRepository changeSequenceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ProductServiceImpl(ProductRepository productRepository) {
+    public ProductServiceImpl(ProductRepository productRepository, ChangeSequenceRepository changeSequenceRepository,
+                              ApplicationEventPublisher eventPublisher) {
         this.productRepository = productRepository;
+        this.changeSequenceRepository = changeSequenceRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @CachePut(value = CacheConfig.PRODUCTS, key = "#result.id")
     @Transactional
     public ProductDTO createNewProduct(CreateProductDTO createProductDTO) {
 
         var newProduct = Product.createProduct(createProductDTO);
+        newProduct.markChanged(changeSequenceRepository.nextChangeSeq());
         productRepository.save(newProduct);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(CatalogSection.PRODUCTS));
 
         return Mapper.productToDto(newProduct);
     }
 
     @Override
+    @Cacheable(value = CacheConfig.PRODUCTS, key = "#id")
     @Transactional(readOnly = true)
     public ProductDTO getProduct(Long id) {
 
-        var findProduct = findProduct(id);
-
-        return Mapper.productToDto(findProduct);
+        return productRepository.findProductDtoById(id)
+                .orElseThrow(()-> new EntityNotFoundException("Product with ID " + id + " not found"));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<ProductDTO> getAvailableProducts(int page, int size) {
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<Product> productsPage = productRepository.findByAvailableTrue(pageable);
 
-        return productsPage.map(Mapper::productToDto);
+        return productRepository.findAvailableProductDtos(pageable);
     }
 
     @Override
@@ -56,35 +89,151 @@ public class ProductServiceImpl implements ProductService {
     public Page<ProductDTO> getAllProducts(int page, int size) {
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<Product> productsPage = productRepository.findAll(pageable);
 
-        return productsPage.map(Mapper::productToDto);
+        return productRepository.findAllProductDtos(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductSliceDTO getAvailableProductsAfter(String cursor, int size) {
+
+        Slice<ProductDTO> slice = productRepository.findAvailableProductDtosAfter(decodeCursor(cursor), PageRequest.of(0, size));
+
+        return toSliceDto(slice);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public ProductSliceDTO getAllProductsAfter(String cursor, int size) {
+
+        Slice<ProductDTO> slice = productRepository.findAllProductDtosAfter(decodeCursor(cursor), PageRequest.of(0, size));
+
+        return toSliceDto(slice);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProductDTO> searchProducts(ProductSearchDTO search, int page, int size, String sort, String direction) {
+
+        if (!SORTABLE_FIELDS.contains(sort)) {
+            throw new IllegalArgumentException("Invalid sort field: " + sort);
+        }
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.fromString(direction), sort));
+
+        String namePattern = null;
+        if (search.name() != null && !search.name().isBlank()) {
+            String name = escapeLike(search.name().trim().toLowerCase(Locale.ROOT));
+            namePattern = Boolean.TRUE.equals(search.prefix()) ? name + "%" : "%" + name + "%";
+        }
+
+        UnitOfMeasure unitOfMeasure = search.unitOfMeasure() != null
+                ? UnitOfMeasure.fromString(search.unitOfMeasure())
+                : null;
+
+        return productRepository.searchProductDtos(namePattern, unitOfMeasure, search.available(),
+                search.minPrice(), search.maxPrice(), search.minCost(), search.maxCost(), pageable);
+    }
+
+    @Override
+    @CachePut(value = CacheConfig.PRODUCTS, key = "#id")
     @Transactional
     public ProductDTO updateProduct(Long id, ProductUpdateDTO productUpdateDTO) {
 
         var product = findProduct(id);
 
         product.updateProduct(productUpdateDTO);
+        product.markChanged(changeSequenceRepository.nextChangeSeq());
         productRepository.save(product);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(CatalogSection.PRODUCTS));
 
         return Mapper.productToDto(product);
     }
 
     @Override
+    @CacheEvict(value = CacheConfig.PRODUCTS, key = "#id")
     @Transactional
     public String deleteProduct(Long id) {
 
-        if (!productRepository.existsById(id)) {
+        var deleted = productRepository.softDeleteById(id, changeSequenceRepository.nextChangeSeq());
+
+        if (deleted == 0) {
             throw new EntityNotFoundException("Product with ID " + id + " not found.");
         }
-        productRepository.deleteById(id);
+        eventPublisher.publishEvent(CatalogChangedEvent.of(CatalogSection.PRODUCTS));
 
         return "Product with ID " + id + " successfully deleted.";
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CatalogChangesDTO<ProductDTO> getAvailableProductChanges(String since) {
+
+        // Public clients only hold available products, so one that became unavailable is a removal for them.
+        return productChangesSince(since, product -> Boolean.TRUE.equals(product.getDeleted())
+                || !Boolean.TRUE.equals(product.getAvailable()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CatalogChangesDTO<ProductDTO> getAllProductChanges(String since) {
+
+        return productChangesSince(since, product -> Boolean.TRUE.equals(product.getDeleted()));
+    }
+
+    private CatalogChangesDTO<ProductDTO> productChangesSince(String since, Predicate<Product> removed) {
+
+        long sinceSeq = ChangeTokenUtils.parseSince(since);
+        List<Product> changes = productRepository.findChangesSince(sinceSeq);
+
+        List<ProductDTO> upserts = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        long maxChangeSeq = sinceSeq;
+
+        for (Product product : changes) {
+            if (removed.test(product)) {
+                deleted.add(product.getId());
+            } else {
+                upserts.add(Mapper.productToDto(product));
+            }
+            maxChangeSeq = Math.max(maxChangeSeq, product.getChangeSeq());
+        }
+
+        return new CatalogChangesDTO<>(upserts, deleted, ChangeTokenUtils.nextToken(sinceSeq, maxChangeSeq));
+    }
+
+    private String escapeLike(String value){
+
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private ProductSliceDTO toSliceDto(Slice<ProductDTO> slice){
+
+        String nextCursor = null;
+        if (slice.hasNext() && slice.hasContent()) {
+            nextCursor = encodeCursor(slice.getContent().get(slice.getNumberOfElements() - 1).id());
+        }
+        return new ProductSliceDTO(slice.getContent(), nextCursor, slice.hasNext());
+    }
+
+    private String encodeCursor(Long lastId){
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(lastId.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Long decodeCursor(String cursor){
+
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
     private Product findProduct(Long id){
 
         return productRepository.findById(id)
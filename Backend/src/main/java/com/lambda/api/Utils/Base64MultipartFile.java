@@ -1,55 +0,0 @@
-package com.lambda.api.Utils;
-
-import org.springframework.web.multipart.MultipartFile;
-
-import java.io.*;
-
-public class Base64MultipartFile implements MultipartFile {
-    private final byte[] content;
-
-    public Base64MultipartFile(byte[] content) {
-        this.content = content;
-    }
-
-    @Override
-    public String getName() {
-        return null;
-    }
-
-    @Override
-    public String getOriginalFilename() {
-        return null;
-    }
-
-    @Override
-    public String getContentType() {
-        return null;
-    }
-
-    @Override
-    public boolean isEmpty() {
-        return content == null || content.length == 0;
-    }
-
-    @Override
-    public long getSize() {
-        return content.length;
-    }
-
-    @Override
-    public byte[] getBytes() throws IOException {
-        return content;
-    }
-
-    @Override
-    public InputStream getInputStream() throws IOException {
-        return new ByteArrayInputStream(content);
-    }
-
-    @Override
-    public void transferTo(File dest) throws IOException, IllegalStateException {
-        try (FileOutputStream fos = new FileOutputStream(dest)) {
-            fos.write(content);
-        }
-    }
-}
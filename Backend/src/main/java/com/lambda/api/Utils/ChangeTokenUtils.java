@@ -0,0 +1,25 @@
+package com.lambda.api.Utils;
+
+public class ChangeTokenUtils {
+
+    public static long parseSince(String since) {
+
+        if (since == null || since.isBlank()) {
+            return 0L;
+        }
+        try {
+            long value = Long.parseLong(since);
+            if (value < 0) {
+                throw new IllegalArgumentException("Invalid change token: " + since);
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid change token: " + since);
+        }
+    }
+
+    public static String nextToken(long since, long maxChangeSeq) {
+
+        return String.valueOf(Math.max(since, maxChangeSeq));
+    }
+}
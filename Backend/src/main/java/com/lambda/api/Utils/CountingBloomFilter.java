@@ -0,0 +1,117 @@
+package com.lambda.api.Utils;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Counting Bloom filter over SHA-256 digests. The digest is already uniformly distributed, so the
+ * probe positions are derived from its first 16 bytes (Kirsch-Mitzenmacher double hashing) instead of
+ * hashing it again. Counters are 4 bits, packed 16 per long, and stick at their maximum once saturated,
+ * so a removal can never clear a position that other entries still need.
+ */
+public class CountingBloomFilter {
+
+    private static final int COUNTER_BITS = 4;
+    private static final int COUNTERS_PER_WORD = Long.SIZE / COUNTER_BITS;
+    private static final long MAX_COUNT = (1L << COUNTER_BITS) - 1;
+
+    private final long[] words;
+    private final long counters;
+    private final int hashFunctions;
+    private final long capacity;
+    private long entries;
+
+    private CountingBloomFilter(long counters, int hashFunctions, long capacity) {
+        this.counters = counters;
+        this.hashFunctions = hashFunctions;
+        this.capacity = capacity;
+        this.words = new long[(int) ((counters + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD)];
+    }
+
+    public static CountingBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Invalid Bloom filter sizing");
+        }
+        long counters = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int hashFunctions = Math.max(1, (int) Math.round((double) counters / expectedInsertions * Math.log(2)));
+
+        return new CountingBloomFilter(counters, hashFunctions, expectedInsertions);
+    }
+
+    public synchronized void add(byte[] digest) {
+
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = indexOf(digest, i);
+            long count = get(index);
+            if (count < MAX_COUNT) {
+                set(index, count + 1);
+            }
+        }
+        entries++;
+    }
+
+    public synchronized void remove(byte[] digest) {
+
+        // Removing something that was never added would decrement other entries' counters.
+        if (!mightContain(digest)) {
+            return;
+        }
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = indexOf(digest, i);
+            long count = get(index);
+            if (count < MAX_COUNT) {
+                set(index, count - 1);
+            }
+        }
+        entries--;
+    }
+
+    public synchronized boolean mightContain(byte[] digest) {
+
+        for (int i = 0; i < hashFunctions; i++) {
+            if (get(indexOf(digest, i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public synchronized long entries() {
+        return entries;
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    public long memoryBytes() {
+        return (long) words.length * Long.BYTES;
+    }
+
+    // (1 - e^(-kn/m))^k for the current number of entries.
+    public synchronized double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashFunctions * entries / counters), hashFunctions);
+    }
+
+    private long indexOf(byte[] digest, int i) {
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        long h1 = buffer.getLong(0);
+        long h2 = buffer.getLong(Long.BYTES);
+        return Math.floorMod(h1 + i * h2, counters);
+    }
+
+    private long get(long index) {
+        int shift = (int) (index % COUNTERS_PER_WORD) * COUNTER_BITS;
+        return (words[(int) (index / COUNTERS_PER_WORD)] >>> shift) & MAX_COUNT;
+    }
+
+    private void set(long index, long count) {
+        int word = (int) (index / COUNTERS_PER_WORD);
+        int shift = (int) (index % COUNTERS_PER_WORD) * COUNTER_BITS;
+        words[word] = (words[word] & ~(MAX_COUNT << shift)) | (count << shift);
+    }
+}
@@ -0,0 +1,70 @@
+package com.lambda.api.Utils;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Rewrites stored Cloudinary URLs into delivery URLs (f_auto,q_auto plus the preset's width) and back.
+ * Stored URLs stay canonical; clients may send either form and {@link #toStoredUrl} normalizes it.
+ */
+public class DeliveryUrlUtils {
+
+    private static final String CLOUDINARY_HOST = "res.cloudinary.com";
+    private static final String UPLOAD_SEGMENT = "/image/upload/";
+    private static final String DELIVERY_TRANSFORMATION = "f_auto,q_auto";
+    private static final int MAX_MEMOIZED_URLS = 10_000;
+
+    private static final Map<ImagePreset, Cache<String, String>> DELIVERY_URLS = new EnumMap<>(ImagePreset.class);
+
+    static {
+        for (ImagePreset preset : ImagePreset.values()) {
+            DELIVERY_URLS.put(preset, Caffeine.newBuilder().maximumSize(MAX_MEMOIZED_URLS).build());
+        }
+    }
+
+    public static String toDeliveryUrl(String url, ImagePreset preset) {
+
+        if (url == null || preset == ImagePreset.ORIGINAL) {
+            return url;
+        }
+        return DELIVERY_URLS.get(preset).get(url, key -> rewrite(key, preset));
+    }
+
+    public static String toStoredUrl(String url) {
+
+        if (url == null) {
+            return null;
+        }
+        int start = transformationStart(url);
+        if (start < 0 || !url.startsWith(DELIVERY_TRANSFORMATION, start)) {
+            return url;
+        }
+        int end = url.indexOf('/', start);
+        return end < 0 ? url : url.substring(0, start) + url.substring(end + 1);
+    }
+
+    private static String rewrite(String url, ImagePreset preset) {
+
+        int start = transformationStart(url);
+        if (start < 0 || url.startsWith(DELIVERY_TRANSFORMATION, start)) {
+            return url;
+        }
+        String transformation = preset.transformation().isEmpty()
+                ? DELIVERY_TRANSFORMATION
+                : DELIVERY_TRANSFORMATION + "," + preset.transformation();
+
+        return url.substring(0, start) + transformation + "/" + url.substring(start);
+    }
+
+    private static int transformationStart(String url) {
+
+        if (!url.contains(CLOUDINARY_HOST)) {
+            return -1;
+        }
+        int index = url.indexOf(UPLOAD_SEGMENT);
+        return index < 0 ? -1 : index + UPLOAD_SEGMENT.length();
+    }
+}
@@ -2,13 +2,20 @@ package com.lambda.api.Utils;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.security.MessageDigest;
 import java.util.Base64;
 
 public class ImageHashUtils {
     public static String calculateHash(MultipartFile file) throws Exception {
         MessageDigest digest = MessageDigest.getInstance("SHA-256");
-        byte[] hashBytes = digest.digest(file.getBytes());
-        return Base64.getEncoder().encodeToString(hashBytes);
+        try (InputStream in = file.getInputStream()) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
     }
 }
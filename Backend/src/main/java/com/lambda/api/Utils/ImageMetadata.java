@@ -0,0 +1,10 @@
+package com.lambda.api.Utils;
+
+/**
+ * What the processing stage learns from decoding an image once: its intrinsic size and an inline
+ * low-resolution placeholder. Fields are null when the format could not be decoded locally.
+ */
+public record ImageMetadata(Integer width, Integer height, String placeholder) {
+
+    public static final ImageMetadata UNKNOWN = new ImageMetadata(null, null, null);
+}
@@ -0,0 +1,28 @@
+package com.lambda.api.Utils;
+
+import java.util.Locale;
+
+public enum ImagePreset {
+    ORIGINAL(null),
+    AUTO(""),
+    THUMBNAIL("c_limit,w_480"),
+    HERO("c_limit,w_1600");
+
+    private final String transformation;
+
+    ImagePreset(String transformation) {
+        this.transformation = transformation;
+    }
+
+    public String transformation() {
+        return transformation;
+    }
+
+    public static ImagePreset fromString(String value) {
+        try {
+            return ImagePreset.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid image preset: " + value);
+        }
+    }
+}
@@ -2,14 +2,39 @@ package com.lambda.api.Utils;
 
 import com.lambda.api.Dtos.*;
 import com.lambda.api.Entities.*;
+import com.lambda.api.Entities.valueObjects.ImageVariant;
 
 import java.util.List;
 
 public class Mapper {
 
+    public static final ImagePreset MENU_PRESET = ImagePreset.THUMBNAIL;
+    public static final ImagePreset BANNER_PRESET = ImagePreset.HERO;
+
     public static ImageDTO imageToDto(Image image){
 
-        return new ImageDTO(image.getId() ,image.getPublicUrl());
+        return new ImageDTO(image.getId(), image.getPublicUrl(), image.getWidth(), image.getHeight(),
+                image.getPlaceholder(), List.copyOf(image.getVariants()));
+    }
+
+    public static ImageDTO imageToDeliveryDto(ImageDTO image, ImagePreset preset){
+
+        if (preset == ImagePreset.ORIGINAL) {
+            return image;
+        }
+        // Variants already carry their width; they only get the format and quality negotiation.
+        List<ImageVariant> variants = image.variants().stream()
+                .map(variant -> new ImageVariant(variant.width(), DeliveryUrlUtils.toDeliveryUrl(variant.url(), ImagePreset.AUTO)))
+                .toList();
+
+        return new ImageDTO(image.id(), DeliveryUrlUtils.toDeliveryUrl(image.url(), preset), image.width(), image.height(),
+                image.placeholder(), variants);
+    }
+    public static ImageJobDTO imageJobToDto(ImageJob job){
+
+        ImageDTO image = job.getImageId() != null ? new ImageDTO(job.getImageId(), job.getImageUrl()) : null;
+
+        return new ImageJobDTO(job.getId(), job.getStatus(), image, job.getError());
     }
     public static BusinessInfoDTO businessInfoToDto(BusinessInfo businessInfo){
         return new BusinessInfoDTO(
@@ -28,11 +53,18 @@ public class Mapper {
 
     public static BannerDTO bannerToDto(Banner banner) {
 
+        return bannerToDto(banner, BANNER_PRESET);
+    }
+
+    public static BannerDTO bannerToDto(Banner banner, ImagePreset preset) {
+
         if (banner.getImageUrls().isEmpty()){
             return new BannerDTO(banner.getTittle(), banner.getDescription(), List.of("empty"));
         }
 
-        return new BannerDTO(banner.getTittle(), banner.getDescription(), banner.getImageUrls());
+        return new BannerDTO(banner.getTittle(), banner.getDescription(), banner.getImageUrls().stream()
+                .map(url -> DeliveryUrlUtils.toDeliveryUrl(url, preset))
+                .toList());
     }
 
     public static CategoryDTO categoryToDto(Category category){
@@ -42,15 +74,36 @@ public class Mapper {
 
     public static MenuItemDTO menuToMenuItemDto (MenuItem menuItem){
 
+        List<ImageDTO> images = menuItem.getImages().stream()
+                .map(image -> imageToDeliveryDto(imageToDto(image), MENU_PRESET))
+                .toList();
+
         return new MenuItemDTO(
                 menuItem.getId(), menuItem.getTitle(), menuItem.getSubtitle(),
                 menuItem.getDescription(), menuItem.getPrice(),
-                menuItem.getContentItems(), menuItem.getImageUrls(),
+                List.copyOf(menuItem.getContentItems()), images.stream().map(ImageDTO::url).toList(), images,
                 menuItem.getCategory().getName(),
                 menuItem.getCategory().getId()
         );
     }
 
+    public static MenuItemDTO menuSummaryToMenuItemDto(MenuItemSummaryDTO summary,
+                                                       List<String> contentItems, List<ImageDTO> storedImages,
+                                                       ImagePreset preset){
+
+        List<ImageDTO> images = storedImages.stream()
+                .map(image -> imageToDeliveryDto(image, preset))
+                .toList();
+
+        return new MenuItemDTO(
+                summary.id(), summary.title(), summary.subtitle(),
+                summary.description(), summary.price(),
+                contentItems, images.stream().map(ImageDTO::url).toList(), images,
+                summary.category(),
+                summary.category_id()
+        );
+    }
+
     public static ProductDTO productToDto(Product product){
 
         return new ProductDTO(
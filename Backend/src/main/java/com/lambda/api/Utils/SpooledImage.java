@@ -0,0 +1,71 @@
+package com.lambda.api.Utils;
+
+import com.lambda.api.Exceptions.ImageException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * An uploaded image spooled to a temporary file. The SHA-256 is computed while copying,
+ * so the bytes are never held on the heap as a whole.
+ */
+public record SpooledImage(Path file, long size, String hash) implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    public static SpooledImage spool(InputStream body, long maxBytes) throws IOException {
+
+        Path file = Files.createTempFile("image-upload-", ".bin");
+        try {
+            MessageDigest digest = newDigest();
+            long size;
+
+            try (OutputStream out = Files.newOutputStream(file)) {
+                size = copy(body, out, digest, maxBytes);
+            }
+            return new SpooledImage(file, size, Base64.getEncoder().encodeToString(digest.digest()));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    private static long copy(InputStream body, OutputStream out, MessageDigest digest, long maxBytes) throws IOException {
+
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long size = 0;
+        int read;
+        while ((read = body.read(buffer)) != -1) {
+            size += read;
+            if (size > maxBytes) {
+                throw new ImageException("File too large. Max size is " + (maxBytes / (1024 * 1024)) + "MB");
+            }
+            digest.update(buffer, 0, read);
+            out.write(buffer, 0, read);
+        }
+
+        if (size == 0) {
+            throw new IllegalArgumentException("File cannot be null or empty");
+        }
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,2 @@
+-- Hashes were stored as Base64 text; the unique index is rebuilt on the raw 32 bytes.
+ALTER TABLE images ALTER COLUMN hash TYPE BYTEA USING decode(hash, 'base64');
@@ -0,0 +1,4 @@
+-- Every existing user gets a stamp, so tokens issued before this version no longer match one.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS security_stamp VARCHAR(36);
+UPDATE users SET security_stamp = gen_random_uuid()::text WHERE security_stamp IS NULL;
+ALTER TABLE users ALTER COLUMN security_stamp SET NOT NULL;
@@ -0,0 +1,17 @@
+CREATE SEQUENCE IF NOT EXISTS catalog_change_seq;
+
+ALTER TABLE menu_item ADD COLUMN IF NOT EXISTS change_seq BIGINT,
+    ADD COLUMN IF NOT EXISTS deleted BOOLEAN NOT NULL DEFAULT FALSE;
+ALTER TABLE categories ADD COLUMN IF NOT EXISTS change_seq BIGINT,
+    ADD COLUMN IF NOT EXISTS deleted BOOLEAN NOT NULL DEFAULT FALSE;
+ALTER TABLE products ADD COLUMN IF NOT EXISTS change_seq BIGINT,
+    ADD COLUMN IF NOT EXISTS deleted BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- Rows written before change tracking must still reach clients syncing from an empty token.
+UPDATE categories SET change_seq = nextval('catalog_change_seq') WHERE change_seq IS NULL;
+UPDATE menu_item SET change_seq = nextval('catalog_change_seq') WHERE change_seq IS NULL;
+UPDATE products SET change_seq = nextval('catalog_change_seq') WHERE change_seq IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_menu_item_change_seq ON menu_item (change_seq);
+CREATE INDEX IF NOT EXISTS idx_categories_change_seq ON categories (change_seq);
+CREATE INDEX IF NOT EXISTS idx_products_change_seq ON products (change_seq);
@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS image_upload_claims (
+    hash VARCHAR(44) PRIMARY KEY,
+    owner UUID NOT NULL,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_image_upload_claims_expires_at ON image_upload_claims (expires_at);
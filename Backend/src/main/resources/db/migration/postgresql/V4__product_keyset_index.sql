@@ -0,0 +1,2 @@
+-- The public product scroll seeks on (available, id); the admin scroll uses the primary key.
+CREATE INDEX IF NOT EXISTS idx_products_available_id ON products (available, id);
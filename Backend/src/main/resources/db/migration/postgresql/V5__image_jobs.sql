@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS image_jobs (
+    id UUID PRIMARY KEY,
+    status VARCHAR(255) NOT NULL,
+    hash VARCHAR(255) NOT NULL,
+    image_id BIGINT,
+    image_url VARCHAR(255),
+    error VARCHAR(255),
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_image_jobs_status_updated_at ON image_jobs (status, updated_at);
@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS image_deletion_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    public_id VARCHAR(255) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    last_error VARCHAR(255),
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_image_deletion_outbox_next_attempt_at ON image_deletion_outbox (next_attempt_at);
@@ -0,0 +1,2 @@
+-- Existing images get the migration time, so the orphan collector gives them a full grace period.
+ALTER TABLE images ADD COLUMN IF NOT EXISTS created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL DEFAULT now();
@@ -0,0 +1,20 @@
+CREATE INDEX IF NOT EXISTS idx_images_public_url ON images (public_url);
+
+-- Join rows whose URL has no image row cannot be kept as references and are dropped.
+ALTER TABLE menu_images ADD COLUMN image_id BIGINT;
+UPDATE menu_images mi SET image_id = i.id FROM images i WHERE i.public_url = mi.image_url;
+DELETE FROM menu_images WHERE image_id IS NULL;
+ALTER TABLE menu_images
+    DROP COLUMN image_url,
+    ALTER COLUMN image_id SET NOT NULL,
+    ADD CONSTRAINT fk_menu_images_image FOREIGN KEY (image_id) REFERENCES images (id);
+CREATE INDEX IF NOT EXISTS idx_menu_images_image_id ON menu_images (image_id);
+
+ALTER TABLE banner_images ADD COLUMN image_id BIGINT;
+UPDATE banner_images bi SET image_id = i.id FROM images i WHERE i.public_url = bi.image_url;
+DELETE FROM banner_images WHERE image_id IS NULL;
+ALTER TABLE banner_images
+    DROP COLUMN image_url,
+    ALTER COLUMN image_id SET NOT NULL,
+    ADD CONSTRAINT fk_banner_images_image FOREIGN KEY (image_id) REFERENCES images (id);
+CREATE INDEX IF NOT EXISTS idx_banner_images_image_id ON banner_images (image_id);
@@ -0,0 +1,113 @@
+package com.lambda.api.Benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lambda.api.Config.CloudinaryConfig;
+import com.lambda.api.Service.impl.CloudinaryServiceImpl;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Upload latency against a local Cloudinary stub: a new HttpClient per call, as before, versus the
+ * shared client from CloudinaryConfig.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(16)
+@Fork(1)
+public class CloudinaryClientBenchmark {
+
+    private static final String UPLOAD_RESPONSE = "{\"secure_url\":\"https://res.cloudinary.com/demo/image/upload/v1/x.jpg\","
+            + "\"public_id\":\"x\",\"width\":1600,\"height\":900,\"eager\":[]}";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private HttpClient sharedClient;
+    private CloudinaryServiceImpl sharedService;
+    private ObjectMapper objectMapper;
+    private String baseUrl;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+
+        serverExecutor = Executors.newFixedThreadPool(32);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 256);
+        server.createContext("/", exchange -> {
+            try (InputStream body = exchange.getRequestBody()) {
+                body.transferTo(OutputStream.nullOutputStream());
+            }
+            byte[] response = UPLOAD_RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        byte[] image = new byte[256 * 1024];
+        new Random(42).nextBytes(image);
+        file = Files.createTempFile("benchmark-upload-", ".bin");
+        Files.write(file, image);
+
+        objectMapper = new ObjectMapper();
+        CloudinaryConfig config = new CloudinaryConfig();
+        ReflectionTestUtils.setField(config, "connectTimeoutMillis", 5000L);
+        sharedClient = config.cloudinaryHttpClient();
+        sharedService = service(sharedClient);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+
+        sharedClient.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public Map<String, Object> clientPerCall() {
+
+        // What upload did before: a fresh client, selector thread and connection pool for every call.
+        return service(HttpClient.newHttpClient()).upload(file, "hash");
+    }
+
+    @Benchmark
+    public Map<String, Object> sharedClient() {
+
+        return sharedService.upload(file, "hash");
+    }
+
+    private CloudinaryServiceImpl service(HttpClient httpClient) {
+
+        CloudinaryServiceImpl service = new CloudinaryServiceImpl(httpClient, objectMapper);
+        ReflectionTestUtils.setField(service, "cloudinaryKey", "key");
+        ReflectionTestUtils.setField(service, "cloudinaryName", "demo");
+        ReflectionTestUtils.setField(service, "cloudinarySecret", "secret");
+        ReflectionTestUtils.setField(service, "cloudinaryBaseUrl", baseUrl);
+        ReflectionTestUtils.setField(service, "requestTimeoutMillis", 30000L);
+        ReflectionTestUtils.setField(service, "variantWidths", new int[]{320, 640, 1280});
+        return service;
+    }
+}
@@ -0,0 +1,91 @@
+package com.lambda.api.Benchmarks;
+
+import com.lambda.api.Service.impl.ImageProcessingServiceImpl;
+import com.lambda.api.Utils.ImageMetadata;
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Placeholder generation for one upload: a full-resolution decode then scale (the naive resize) against the
+ * subsampled decode in ImageProcessingServiceImpl, which also pays for the JPEG encode. Run with {@code -prof gc};
+ * the full decode allocates the whole raster, so gc.alloc.rate.norm grows with the source size while the
+ * subsampled path stays flat.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Djava.awt.headless=true")
+public class ImageResizeBenchmark {
+
+    @Param({"1600x1200", "4000x3000"})
+    private String size;
+
+    @Param({"jpg", "png"})
+    private String format;
+
+    private Path file;
+    private ImageProcessingServiceImpl processingService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+
+        String[] dimensions = size.split("x");
+        int width = Integer.parseInt(dimensions[0]);
+        int height = Integer.parseInt(dimensions[1]);
+
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setPaint(new GradientPaint(0, 0, Color.ORANGE, width, height, Color.DARK_GRAY));
+            graphics.fillRect(0, 0, width, height);
+        } finally {
+            graphics.dispose();
+        }
+
+        file = Files.createTempFile("benchmark-resize-", "." + format);
+        ImageIO.write(image, format, file.toFile());
+
+        processingService = new ImageProcessingServiceImpl(Runnable::run);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public BufferedImage fullDecode() throws IOException {
+
+        BufferedImage source = ImageIO.read(file.toFile());
+        int height = Math.max(1, Math.round((float) source.getHeight() * 16 / source.getWidth()));
+
+        BufferedImage scaled = new BufferedImage(16, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, 16, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    @Benchmark
+    public ImageMetadata subsampledDecode() {
+
+        return processingService.analyze(file).join();
+    }
+}
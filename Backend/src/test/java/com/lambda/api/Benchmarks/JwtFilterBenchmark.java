@@ -0,0 +1,90 @@
+package com.lambda.api.Benchmarks;
+
+import com.lambda.api.Entities.User;
+import com.lambda.api.Security.RouteAuthorizationTable;
+import com.lambda.api.Security.jwt.JwtAuthenticationFilter;
+import com.lambda.api.Security.jwt.JwtService;
+import com.lambda.api.Security.jwt.SecurityStampService;
+import com.lambda.api.Security.jwt.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request authentication cost: a full signature check and JSON parse (what every request paid
+ * before the cache), a cache hit on the verified token, and the whole stateless filter on an admin route.
+ * The security stamp lookup is a constant, so the filter numbers exclude the stamp cache and the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private JwtService jwtService;
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        User user = User.createUser("admin@lambda.com", "encoded");
+        ReflectionTestUtils.setField(user, "userId", 1L);
+        String stamp = user.getSecurityStamp();
+
+        jwtService = new JwtService(Base64.getEncoder().encodeToString(new byte[32]), 10_000);
+        token = jwtService.generateToken(user);
+
+        SecurityStampService stamps = new SecurityStampService(null) {
+            @Override
+            public String currentStamp(Long userId) {
+                return stamp;
+            }
+        };
+        RouteAuthorizationTable routes = RouteAuthorizationTable.builder()
+                .adminRoute("/api/image/all")
+                .build();
+
+        filter = new JwtAuthenticationFilter(jwtService, null, stamps, routes, new RequestAttributeSecurityContextRepository());
+        ReflectionTestUtils.setField(filter, "stateless", true);
+    }
+
+    @Benchmark
+    public Claims parseEveryRequest() {
+
+        return jwtService.extractAllClaims(token);
+    }
+
+    @Benchmark
+    public VerifiedToken cachedVerification() {
+
+        return jwtService.verify(token);
+    }
+
+    @Benchmark
+    public Authentication statelessFilter() throws ServletException, IOException {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/image/all");
+        request.setServletPath("/api/image/all");
+        request.addHeader("Authorization", "Bearer " + token);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.lambda.api.Benchmarks;
+
+import com.lambda.api.Dtos.CreateMenuItemDTO;
+import com.lambda.api.Dtos.CreateProductDTO;
+import com.lambda.api.Dtos.MenuItemDTO;
+import com.lambda.api.Dtos.ProductDTO;
+import com.lambda.api.Entities.Category;
+import com.lambda.api.Entities.Image;
+import com.lambda.api.Entities.MenuItem;
+import com.lambda.api.Entities.Product;
+import com.lambda.api.Repositories.CategoryRepository;
+import com.lambda.api.Repositories.ImageRepository;
+import com.lambda.api.Repositories.MenuItemRepository;
+import com.lambda.api.Repositories.ProductRepository;
+import com.lambda.api.Service.impl.MenuItemServiceImpl;
+import com.lambda.api.Utils.Mapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity hydration plus Mapper (before) against the DTO projections (after) on an in-memory H2 catalog.
+ * Run with {@code -prof gc} and compare gc.alloc.rate.norm for the allocation per read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadProjectionBenchmark {
+
+    @Param({"100", "500"})
+    private int rows;
+
+    private EmbeddedDatabase database;
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private ProductRepository productRepository;
+    private MenuItemRepository menuItemRepository;
+    private MenuItemServiceImpl menuItemService;
+    private Pageable page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(database);
+        factory.setPackagesToScan("com.lambda.api.Entities");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.physical_naming_strategy",
+                "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy",
+                "hibernate.implicit_naming_strategy",
+                "org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy"));
+        factory.afterPropertiesSet();
+
+        entityManagerFactory = factory.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+        seed();
+
+        JpaRepositoryFactory repositories = new JpaRepositoryFactory(entityManager);
+        productRepository = repositories.getRepository(ProductRepository.class);
+        menuItemRepository = repositories.getRepository(MenuItemRepository.class);
+        menuItemService = new MenuItemServiceImpl(menuItemRepository,
+                repositories.getRepository(CategoryRepository.class),
+                repositories.getRepository(ImageRepository.class), null, null);
+        page = PageRequest.of(0, rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        entityManager.close();
+        entityManagerFactory.close();
+        database.shutdown();
+    }
+
+    @Benchmark
+    public List<ProductDTO> productsAsEntities() {
+
+        List<ProductDTO> products = productRepository.findAll(page).map(Mapper::productToDto).getContent();
+        entityManager.clear();
+        return products;
+    }
+
+    @Benchmark
+    public List<ProductDTO> productsAsProjections() {
+
+        List<ProductDTO> products = productRepository.findAllProductDtos(page).getContent();
+        entityManager.clear();
+        return products;
+    }
+
+    @Benchmark
+    public List<MenuItemDTO> menuAsEntities() {
+
+        List<MenuItemDTO> menu = menuItemRepository.findAllMenuItems().stream()
+                .map(Mapper::menuToMenuItemDto)
+                .toList();
+        entityManager.clear();
+        return menu;
+    }
+
+    @Benchmark
+    public List<MenuItemDTO> menuAsProjections() {
+
+        List<MenuItemDTO> menu = menuItemService.getMenuItems(Mapper.MENU_PRESET);
+        entityManager.clear();
+        return menu;
+    }
+
+    private void seed() {
+
+        entityManager.getTransaction().begin();
+
+        Category category = Category.create("eventos");
+        entityManager.persist(category);
+
+        for (int i = 0; i < rows; i++) {
+            entityManager.persist(Product.createProduct(new CreateProductDTO(
+                    "Product " + i, "KILOGRAM", 2.0, 1000.0 + i, 30.0, 1, true)));
+
+            String url = "https://img/" + i + ".png";
+            Image image = Image.createImage(Map.of("url", url, "public_id", "img-" + i), hashOf(i));
+            entityManager.persist(image);
+
+            entityManager.persist(MenuItem.createMenuItem(new CreateMenuItemDTO(
+                    "Menu " + i, "Subtitle", "Description", 1000,
+                    List.of("item a", "item b", "item c"), List.of(url), category.getId()
+            ), category, List.of(image)));
+        }
+        entityManager.getTransaction().commit();
+        entityManager.clear();
+    }
+
+    private String hashOf(int i) {
+
+        return Base64.getEncoder().encodeToString(ByteBuffer.allocate(32).putInt(i).array());
+    }
+}
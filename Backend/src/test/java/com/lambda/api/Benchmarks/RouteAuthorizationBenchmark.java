@@ -0,0 +1,113 @@
+package com.lambda.api.Benchmarks;
+
+import com.lambda.api.Security.RouteAccess;
+import com.lambda.api.Security.RouteAuthorizationConfig;
+import com.lambda.api.Security.RouteAuthorizationTable;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Route lookup for one request: the ordered public and admin AntPathRequestMatcher lists that
+ * SecurityConfig tried before the trie, against one walk down RouteAuthorizationTable.
+ * Setup checks that both give the same access level for the benchmarked request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RouteAuthorizationBenchmark {
+
+    @Param({"POST /api/user/login", "GET /api/image/files/a1b2c3.webp", "GET /api/cache/image-hashes",
+            "GET /api/product/search", "GET /api/unknown/path"})
+    private String route;
+
+    private RouteAuthorizationTable table;
+    private RequestMatcher publicUrls;
+    private RequestMatcher adminUrls;
+    private MockHttpServletRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        table = new RouteAuthorizationConfig().routeAuthorizationTable();
+        publicUrls = new OrRequestMatcher(
+                new AntPathRequestMatcher("/api/user/login"),
+                new AntPathRequestMatcher("/api/business/info"),
+                new AntPathRequestMatcher("/api/banner"),
+                new AntPathRequestMatcher("/api/category/all"),
+                new AntPathRequestMatcher("/api/menu/all"),
+                new AntPathRequestMatcher("/api/menu/changes", "GET"),
+                new AntPathRequestMatcher("/api/category/changes", "GET"),
+                new AntPathRequestMatcher("/api/catalog/events", "GET"),
+                new AntPathRequestMatcher("/api/product"),
+                new AntPathRequestMatcher("/api/product/scroll", "GET"),
+                new AntPathRequestMatcher("/api/product/changes", "GET"),
+                new AntPathRequestMatcher("/api/about", "GET"),
+                new AntPathRequestMatcher("/api/image/files/{key}", "GET")
+        );
+        adminUrls = new OrRequestMatcher(
+                new AntPathRequestMatcher("/api/user/create"),
+                new AntPathRequestMatcher("/api/user/password", "PUT"),
+                new AntPathRequestMatcher("/api/image/create"),
+                new AntPathRequestMatcher("/api/image/upload"),
+                new AntPathRequestMatcher("/api/image/upload/signature", "POST"),
+                new AntPathRequestMatcher("/api/image/upload/complete", "POST"),
+                new AntPathRequestMatcher("/api/image/batch", "POST"),
+                new AntPathRequestMatcher("/api/image/jobs/{id}", "GET"),
+                new AntPathRequestMatcher("/api/image/delete/{id}"),
+                new AntPathRequestMatcher("/api/image/delete", "DELETE"),
+                new AntPathRequestMatcher("/api/image/all"),
+                new AntPathRequestMatcher("/api/business/update"),
+                new AntPathRequestMatcher("/api/banner/images"),
+                new AntPathRequestMatcher("/api/banner/update"),
+                new AntPathRequestMatcher("/api/category/create"),
+                new AntPathRequestMatcher("/api/category/delete/{id}"),
+                new AntPathRequestMatcher("/api/category/update/{id}"),
+                new AntPathRequestMatcher("/api/menu/create"),
+                new AntPathRequestMatcher("/api/menu/delete/{id}"),
+                new AntPathRequestMatcher("/api/menu/update"),
+                new AntPathRequestMatcher("/api/product/create"),
+                new AntPathRequestMatcher("/api/product/{id}"),
+                new AntPathRequestMatcher("/api/product/all", "GET"),
+                new AntPathRequestMatcher("/api/product/all/scroll", "GET"),
+                new AntPathRequestMatcher("/api/product/all/changes", "GET"),
+                new AntPathRequestMatcher("/api/about/update"),
+                new AntPathRequestMatcher("/api/cache/stats"),
+                new AntPathRequestMatcher("/api/cache/image-hashes", "GET")
+        );
+
+        String[] parts = route.split(" ", 2);
+        request = new MockHttpServletRequest(parts[0], parts[1]);
+        request.setServletPath(parts[1]);
+
+        if (antMatchers() != trie()) {
+            throw new IllegalStateException("Ant matchers and trie disagree on " + route);
+        }
+    }
+
+    @Benchmark
+    public RouteAccess antMatchers() {
+
+        if (publicUrls.matches(request)) {
+            return RouteAccess.PUBLIC;
+        }
+        if (adminUrls.matches(request)) {
+            return RouteAccess.ADMIN;
+        }
+        return RouteAccess.AUTHENTICATED;
+    }
+
+    // Resolves by method and path, since resolve(request) would only read back the memoized result.
+    @Benchmark
+    public RouteAccess trie() {
+
+        return table.resolve(request.getMethod(), request.getServletPath());
+    }
+}
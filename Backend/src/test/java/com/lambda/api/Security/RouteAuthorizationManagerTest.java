@@ -0,0 +1,58 @@
+package com.lambda.api.Security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteAuthorizationManagerTest {
+
+    private static final Authentication ADMIN = new TestingAuthenticationToken("admin@lambda.com", null, "ROLE_ADMIN");
+    private static final Authentication USER = new TestingAuthenticationToken("user@lambda.com", null, "ROLE_USER");
+    private static final Authentication ANONYMOUS = new AnonymousAuthenticationToken(
+            "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+
+    private final RouteAuthorizationManager manager =
+            new RouteAuthorizationManager(new RouteAuthorizationConfig().routeAuthorizationTable());
+
+    @Test
+    void publicRoutesAreGrantedWithoutLookingAtTheUser() {
+
+        assertTrue(manager.check(() -> {
+            throw new AssertionError("public routes must not load the authentication");
+        }, context("GET", "/api/menu/all")).isGranted());
+    }
+
+    @Test
+    void adminRoutesNeedTheAdminRole() {
+
+        assertTrue(isGranted(ADMIN, "GET", "/api/product/all"));
+        assertFalse(isGranted(USER, "GET", "/api/product/all"));
+        assertFalse(isGranted(ANONYMOUS, "GET", "/api/product/all"));
+    }
+
+    @Test
+    void unregisteredRoutesNeedAnyAuthenticatedUser() {
+
+        assertTrue(isGranted(ADMIN, "GET", "/api/unknown"));
+        assertTrue(isGranted(USER, "GET", "/api/unknown"));
+        assertFalse(isGranted(ANONYMOUS, "GET", "/api/unknown"));
+    }
+
+    private boolean isGranted(Authentication authentication, String method, String path) {
+
+        return manager.check(() -> authentication, context(method, path)).isGranted();
+    }
+
+    private RequestAuthorizationContext context(String method, String path) {
+
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return new RequestAuthorizationContext(request);
+    }
+}
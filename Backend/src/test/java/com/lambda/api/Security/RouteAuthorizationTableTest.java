@@ -0,0 +1,136 @@
+package com.lambda.api.Security;
+
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteAuthorizationTableTest {
+
+    private final RouteAuthorizationTable routes = new RouteAuthorizationConfig().routeAuthorizationTable();
+
+    @Test
+    void publicRoutesAreOpenToEveryMethodUnlessRestricted() {
+
+        assertEquals(RouteAccess.PUBLIC, routes.resolve("POST", "/api/user/login"));
+        assertEquals(RouteAccess.PUBLIC, routes.resolve("GET", "/api/menu/all"));
+        assertEquals(RouteAccess.PUBLIC, routes.resolve("GET", "/api/menu/changes"));
+        assertEquals(RouteAccess.AUTHENTICATED, routes.resolve("POST", "/api/menu/changes"));
+    }
+
+    @Test
+    void adminRoutesNeedTheAdminRole() {
+
+        assertEquals(RouteAccess.ADMIN, routes.resolve("GET", "/api/image/all"));
+        assertEquals(RouteAccess.ADMIN, routes.resolve("POST", "/api/user/create"));
+        assertEquals(RouteAccess.ADMIN, routes.resolve("PUT", "/api/user/password"));
+        assertEquals(RouteAccess.AUTHENTICATED, routes.resolve("POST", "/api/user/password"));
+    }
+
+    @Test
+    void methodSpecificEntriesBelowAnAnyMethodPublicRoute() {
+
+        assertEquals(RouteAccess.PUBLIC, routes.resolve("GET", "/api/product"));
+        assertEquals(RouteAccess.PUBLIC, routes.resolve("POST", "/api/product"));
+        assertEquals(RouteAccess.ADMIN, routes.resolve("GET", "/api/product/all"));
+        assertEquals(RouteAccess.ADMIN, routes.resolve("GET", "/api/product/all/scroll"));
+        assertEquals(RouteAccess.PUBLIC, routes.resolve("GET", "/api/product/scroll"));
+        assertEquals(RouteAccess.PUBLIC, routes.resolve("GET", "/api/product/changes"));
+    }
+
+    @Test
+    void variableSegmentsMatchAnyNonLiteralSegment() {
+
+        assertEquals(RouteAccess.ADMIN, routes.resolve("GET", "/api/product/42"));
+        assertEquals(RouteAccess.ADMIN, routes.resolve("GET", "/api/product/search"));
+        assertEquals(RouteAccess.ADMIN, routes.resolve("DELETE", "/api/menu/delete/7"));
+        assertEquals(RouteAccess.PUBLIC, routes.resolve("GET", "/api/image/files/a1b2c3.webp"));
+        assertEquals(RouteAccess.AUTHENTICATED, routes.resolve("HEAD", "/api/image/files/a1b2c3.webp"));
+    }
+
+    @Test
+    void literalWithoutTheRequestedMethodFallsBackToTheVariable() {
+
+        // "scroll" and "changes" are only public for GET; any other method is an {id} under /api/product.
+        assertEquals(RouteAccess.ADMIN, routes.resolve("POST", "/api/product/scroll"));
+        assertEquals(RouteAccess.ADMIN, routes.resolve("DELETE", "/api/product/changes"));
+    }
+
+    @Test
+    void variableSegmentsDoNotSpanSlashes() {
+
+        assertEquals(RouteAccess.AUTHENTICATED, routes.resolve("GET", "/api/product/42/extra"));
+        assertEquals(RouteAccess.AUTHENTICATED, routes.resolve("GET", "/api/image/files/a/b"));
+        assertEquals(RouteAccess.AUTHENTICATED, routes.resolve("GET", "/api/image/files/"));
+    }
+
+    @Test
+    void trailingSlashIsSignificant() {
+
+        assertEquals(RouteAccess.AUTHENTICATED, routes.resolve("GET", "/api/menu/all/"));
+        assertEquals(RouteAccess.AUTHENTICATED, routes.resolve("GET", "/api/image/all/"));
+        assertEquals(RouteAccess.AUTHENTICATED, routes.resolve("GET", "/api/product/"));
+    }
+
+    @Test
+    void unregisteredPathsNeedAnAuthenticatedUser() {
+
+        assertEquals(RouteAccess.AUTHENTICATED, routes.resolve("GET", "/"));
+        assertEquals(RouteAccess.AUTHENTICATED, routes.resolve("GET", "/api"));
+        assertEquals(RouteAccess.AUTHENTICATED, routes.resolve("GET", "/api/unknown"));
+        assertEquals(RouteAccess.AUTHENTICATED, routes.resolve("GET", "/API/menu/all"));
+        assertEquals(RouteAccess.AUTHENTICATED, routes.resolve("GET", "/api/menu/all/extra"));
+    }
+
+    @Test
+    void firstRegistrationWins() {
+
+        RouteAuthorizationTable table = RouteAuthorizationTable.builder()
+                .publicRoute("/api/a")
+                .adminRoute("/api/a")
+                .adminRoute("GET", "/api/b")
+                .publicRoute("GET", "/api/b")
+                .build();
+
+        assertEquals(RouteAccess.PUBLIC, table.resolve("GET", "/api/a"));
+        assertEquals(RouteAccess.ADMIN, table.resolve("GET", "/api/b"));
+    }
+
+    @Test
+    void requestPathIsServletPathPlusPathInfo() {
+
+        MockHttpServletRequest request = request("GET", "/api");
+        request.setPathInfo("/menu/all");
+
+        assertEquals(RouteAccess.PUBLIC, routes.resolve(request));
+    }
+
+    @Test
+    void originalDispatchIsResolvedOnce() {
+
+        MockHttpServletRequest request = request("GET", "/api/menu/all");
+        assertEquals(RouteAccess.PUBLIC, routes.resolve(request));
+
+        request.setServletPath("/api/image/all");
+        assertEquals(RouteAccess.PUBLIC, routes.resolve(request));
+    }
+
+    @Test
+    void otherDispatchesAreResolvedAgain() {
+
+        MockHttpServletRequest request = request("GET", "/api/menu/all");
+        assertEquals(RouteAccess.PUBLIC, routes.resolve(request));
+
+        request.setDispatcherType(DispatcherType.ERROR);
+        request.setServletPath("/error");
+        assertEquals(RouteAccess.AUTHENTICATED, routes.resolve(request));
+    }
+
+    private MockHttpServletRequest request(String method, String servletPath) {
+
+        MockHttpServletRequest request = new MockHttpServletRequest(method, servletPath);
+        request.setServletPath(servletPath);
+        return request;
+    }
+}
@@ -0,0 +1,114 @@
+package com.lambda.api.Security.jwt;
+
+import com.lambda.api.Entities.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+
+    private JwtService jwtService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+
+        jwtService = new JwtService(SECRET, 100);
+        user = User.createUser("admin@lambda.com", "encoded");
+        ReflectionTestUtils.setField(user, "userId", 7L);
+    }
+
+    @Test
+    void verifiedTokenCarriesTheClaimsAndIsCached() {
+
+        String token = jwtService.generateToken(user);
+
+        VerifiedToken verified = jwtService.verify(token);
+
+        assertEquals("admin@lambda.com", verified.subject());
+        assertEquals(7L, verified.userId());
+        assertEquals(List.of("ADMIN"), verified.roles());
+        assertEquals(user.getSecurityStamp(), verified.stamp());
+        assertSame(verified, jwtService.verify(token));
+    }
+
+    @Test
+    void cachedTokenCannotBeModified() {
+
+        VerifiedToken verified = jwtService.verify(jwtService.generateToken(user));
+
+        assertThrows(UnsupportedOperationException.class, () -> verified.roles().add("OTHER"));
+    }
+
+    @Test
+    void tamperedPayloadIsRejectedWhileTheOriginalIsCached() {
+
+        String token = jwtService.generateToken(user);
+        jwtService.verify(token);
+
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("\"uid\":7", "\"uid\":1");
+        String tampered = parts[0] + "." + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "." + parts[2];
+
+        assertNotEquals(token, tampered);
+        assertThrows(IllegalArgumentException.class, () -> jwtService.verify(tampered));
+        assertEquals(7L, jwtService.verify(token).userId());
+    }
+
+    @Test
+    void tamperedSignatureIsRejectedWhileTheOriginalIsCached() {
+
+        String token = jwtService.generateToken(user);
+        jwtService.verify(token);
+
+        int signature = token.lastIndexOf('.') + 1;
+        // The first signature character carries only data bits, so changing it always changes the signature.
+        char replacement = token.charAt(signature) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, signature) + replacement + token.substring(signature + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> jwtService.verify(tampered));
+    }
+
+    @Test
+    void expiredTokenIsRejectedEvenAfterBeingCached() throws Exception {
+
+        long expiresAt = System.currentTimeMillis() + 1500;
+        String token = Jwts.builder()
+                .setClaims(Map.of(JwtService.USER_ID_CLAIM, 7L, JwtService.ROLES_CLAIM, List.of("ADMIN"),
+                        JwtService.STAMP_CLAIM, user.getSecurityStamp()))
+                .setSubject(user.getEmail())
+                .setExpiration(new Date(expiresAt))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertNotNull(jwtService.verify(token));
+
+        Thread.sleep(Math.max(0, expiresAt - System.currentTimeMillis()) + 100);
+
+        assertThrows(IllegalArgumentException.class, () -> jwtService.verify(token));
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyIsRejected() {
+
+        JwtService other = new JwtService(Base64.getEncoder().encodeToString("another-secret-key-of-32-bytes!!".getBytes(StandardCharsets.UTF_8)), 100);
+
+        assertThrows(IllegalArgumentException.class, () -> jwtService.verify(other.generateToken(user)));
+    }
+}
@@ -0,0 +1,120 @@
+package com.lambda.api.Security.userAuth;
+
+import com.lambda.api.Entities.User;
+import com.lambda.api.Repositories.UserRepository;
+import com.lambda.api.Security.RouteAccess;
+import com.lambda.api.Security.RouteAuthorizationTable;
+import com.lambda.api.Security.jwt.JwtAuthenticationFilter;
+import com.lambda.api.Security.jwt.JwtService;
+import com.lambda.api.Security.jwt.SecurityStampService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserAuthServiceTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+
+    @Mock
+    private UserRepository repository;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private AuthenticationManager authenticationManager;
+    @Mock
+    private UserDetailsService userDetailsService;
+    @Mock
+    private RouteAuthorizationTable routeAuthorizationTable;
+    @Mock
+    private SecurityContextRepository securityContextRepository;
+
+    private UserAuthService authService;
+    private JwtAuthenticationFilter filter;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+
+        JwtService jwtService = new JwtService(SECRET, 100);
+        SecurityStampService securityStampService = new SecurityStampService(repository);
+        authService = new UserAuthService(repository, jwtService, passwordEncoder, authenticationManager, securityStampService);
+
+        filter = new JwtAuthenticationFilter(jwtService, userDetailsService, securityStampService,
+                routeAuthorizationTable, securityContextRepository);
+        ReflectionTestUtils.setField(filter, "stateless", true);
+
+        user = User.createUser("admin@lambda.com", "encoded-old");
+        ReflectionTestUtils.setField(user, "userId", 1L);
+
+        when(repository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+        when(repository.findSecurityStampById(1L)).thenAnswer(invocation -> Optional.of(user.getSecurityStamp()));
+        when(routeAuthorizationTable.resolve(any())).thenReturn(RouteAccess.ADMIN);
+    }
+
+    @AfterEach
+    void clearContext() {
+
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void tokenIssuedBeforeAPasswordChangeIsRejectedAfterwards() throws Exception {
+
+        String before = authService.loginUserAuthentication(new LoginUserAuthRequest(user.getEmail(), "old")).token();
+        assertNotNull(authenticate(before));
+
+        when(passwordEncoder.matches("old", "encoded-old")).thenReturn(true);
+        when(passwordEncoder.encode("new")).thenReturn("encoded-new");
+        String after = authService.changePassword(user.getEmail(), new ChangePasswordRequest("old", "new")).token();
+
+        assertNull(authenticate(before));
+        Authentication authentication = authenticate(after);
+        assertNotNull(authentication);
+        assertEquals(user.getEmail(), authentication.getName());
+    }
+
+    @Test
+    void wrongCurrentPasswordKeepsExistingTokensValid() throws Exception {
+
+        String token = authService.loginUserAuthentication(new LoginUserAuthRequest(user.getEmail(), "old")).token();
+        when(passwordEncoder.matches("wrong", "encoded-old")).thenReturn(false);
+
+        assertThrows(RuntimeException.class,
+                () -> authService.changePassword(user.getEmail(), new ChangePasswordRequest("wrong", "new")));
+
+        assertNotNull(authenticate(token));
+        verify(repository, never()).save(any());
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/user/password");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,133 @@
+package com.lambda.api.Service.impl;
+
+import com.lambda.api.Entities.ImageDeletion;
+import com.lambda.api.Repositories.ImageDeletionRepository;
+import com.lambda.api.Service.ImageStorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageDeletionServiceImplTest {
+
+    private static final long LEASE_SECONDS = 120;
+
+    @Mock
+    private ImageDeletionRepository repository;
+    @Mock
+    private ImageStorageService storageService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ImageDeletionServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+
+        service = new ImageDeletionServiceImpl(repository, storageService, transactionManager);
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        ReflectionTestUtils.setField(service, "leaseSeconds", LEASE_SECONDS);
+    }
+
+    @Test
+    void claimedRowsAreLeasedWhileTheStorageCallRuns() {
+
+        List<ImageDeletion> batch = List.of(deletion(1L, "a", 0));
+        when(repository.findDueForUpdate(any(), anyInt())).thenReturn(batch);
+
+        Instant start = Instant.now();
+        List<Instant> leasedUntil = new ArrayList<>();
+        when(storageService.deleteAll(List.of("a"))).thenAnswer(invocation -> {
+            leasedUntil.add(batch.get(0).getNextAttemptAt());
+            return CompletableFuture.completedFuture(null);
+        });
+
+        service.processDueDeletions();
+
+        assertFalse(leasedUntil.get(0).isBefore(start.plusSeconds(LEASE_SECONDS)));
+        verify(repository).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    void failedBatchIsRescheduledWithBackoff() {
+
+        List<ImageDeletion> batch = List.of(deletion(1L, "a", 0), deletion(2L, "b", 3));
+        when(repository.findDueForUpdate(any(), anyInt())).thenReturn(batch, List.of());
+        when(storageService.deleteAll(List.of("a", "b")))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("rate limited")));
+
+        Instant start = Instant.now();
+        service.processDueDeletions();
+        Instant end = Instant.now();
+
+        // 30s doubled per previous attempt, then jittered into [half, full].
+        assertRescheduledWithin(batch.get(0), start, end, Duration.ofSeconds(15), Duration.ofSeconds(30));
+        assertRescheduledWithin(batch.get(1), start, end, Duration.ofSeconds(120), Duration.ofSeconds(240));
+        assertEquals(1, batch.get(0).getAttempts());
+        assertEquals(4, batch.get(1).getAttempts());
+        assertEquals("rate limited", batch.get(0).getLastError());
+        verify(repository).saveAll(batch);
+        verify(repository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void backoffIsCappedAtOneHour() {
+
+        ImageDeletion deletion = deletion(1L, "a", 20);
+        when(repository.findDueForUpdate(any(), anyInt())).thenReturn(List.of(deletion));
+        when(storageService.deleteAll(any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("down")));
+
+        Instant start = Instant.now();
+        service.processDueDeletions();
+        Instant end = Instant.now();
+
+        assertRescheduledWithin(deletion, start, end, Duration.ofMinutes(30), Duration.ofHours(1));
+    }
+
+    @Test
+    void keepsClaimingWhileBatchesAreFull() {
+
+        when(repository.findDueForUpdate(any(), eq(2))).thenReturn(
+                List.of(deletion(1L, "a", 0), deletion(2L, "a", 0)),
+                List.of(deletion(3L, "c", 0)));
+        when(storageService.deleteAll(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        service.processDueDeletions();
+
+        verify(storageService).deleteAll(List.of("a"));
+        verify(storageService).deleteAll(List.of("c"));
+        verify(repository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(repository).deleteAllByIdInBatch(List.of(3L));
+        verify(repository, times(2)).findDueForUpdate(any(), eq(2));
+    }
+
+    private void assertRescheduledWithin(ImageDeletion deletion, Instant start, Instant end, Duration min, Duration max) {
+
+        Instant next = deletion.getNextAttemptAt();
+        assertFalse(next.isBefore(start.plus(min)), "retry scheduled too early: " + next);
+        assertFalse(next.isAfter(end.plus(max)), "retry scheduled too late: " + next);
+    }
+
+    private ImageDeletion deletion(Long id, String publicId, int attempts) {
+
+        ImageDeletion deletion = ImageDeletion.of(publicId);
+        ReflectionTestUtils.setField(deletion, "id", id);
+        ReflectionTestUtils.setField(deletion, "attempts", attempts);
+        return deletion;
+    }
+}
@@ -0,0 +1,119 @@
+package com.lambda.api.Service.impl;
+
+import com.lambda.api.Dtos.ImageHashFilterStatsDTO;
+import com.lambda.api.Repositories.ImageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageHashFilterServiceImplTest {
+
+    @Mock
+    private ImageRepository repository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ImageHashFilterServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+
+        service = new ImageHashFilterServiceImpl(repository, transactionManager, 1000, 0.01);
+    }
+
+    @Test
+    void everythingMightExistUntilTheFirstRebuild() {
+
+        assertTrue(service.mightContain(hashOf(1)));
+        service.recordFalsePositive();
+
+        ImageHashFilterStatsDTO stats = service.getStats();
+        assertFalse(stats.ready());
+        assertEquals(0, stats.lookups());
+        assertEquals(0, stats.falsePositives());
+    }
+
+    @Test
+    void rebuildStreamsTheStoredHashesAndClosesTheStream() {
+
+        AtomicBoolean closed = new AtomicBoolean();
+        when(repository.count()).thenReturn(2L);
+        when(repository.streamAllHashes()).thenReturn(Stream.of(digestOf(1), digestOf(2)).onClose(() -> closed.set(true)));
+
+        service.rebuild();
+
+        assertTrue(service.mightContain(hashOf(1)));
+        assertTrue(service.mightContain(hashOf(2)));
+        assertFalse(service.mightContain(hashOf(3)));
+        assertTrue(closed.get());
+        assertEquals(2, service.getStats().entries());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void rebuildIsSizedForMoreHashesThanTheConfiguredCapacity() {
+
+        when(repository.count()).thenReturn(5000L);
+        when(repository.streamAllHashes()).thenReturn(Stream.empty());
+
+        service.rebuild();
+
+        assertEquals(5000, service.getStats().capacity());
+    }
+
+    @Test
+    void lookupsMissesAndFalsePositivesAreCounted() {
+
+        when(repository.count()).thenReturn(1L);
+        when(repository.streamAllHashes()).thenReturn(Stream.<byte[]>of(digestOf(1)));
+        service.rebuild();
+
+        service.mightContain(hashOf(1));
+        service.mightContain(hashOf(2));
+        service.mightContain(hashOf(3));
+        service.recordFalsePositive();
+
+        ImageHashFilterStatsDTO stats = service.getStats();
+        assertTrue(stats.ready());
+        assertEquals(3, stats.lookups());
+        assertEquals(2, stats.definitelyNew());
+        assertEquals(1, stats.falsePositives());
+        assertEquals(1.0 / 3, stats.observedFalsePositiveRate(), 1e-9);
+    }
+
+    @Test
+    void addAndRemoveOutsideATransactionApplyImmediately() {
+
+        when(repository.count()).thenReturn(0L);
+        when(repository.streamAllHashes()).thenReturn(Stream.empty());
+        service.rebuild();
+
+        service.add(hashOf(1));
+        assertTrue(service.mightContain(hashOf(1)));
+
+        service.remove(hashOf(1));
+        assertFalse(service.mightContain(hashOf(1)));
+    }
+
+    private byte[] digestOf(long i) {
+
+        return ByteBuffer.allocate(32).putLong(i * 0x9E3779B97F4A7C15L).putLong(i * 0xC2B2AE3D27D4EB4FL).putLong(i).array();
+    }
+
+    private String hashOf(long i) {
+
+        return Base64.getEncoder().encodeToString(digestOf(i));
+    }
+}
@@ -0,0 +1,402 @@
+package com.lambda.api.Service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lambda.api.Dtos.ImageBatchResultDTO;
+import com.lambda.api.Dtos.ImageBulkDeleteDTO;
+import com.lambda.api.Dtos.ImageBulkDeleteResultDTO;
+import com.lambda.api.Dtos.ImageDTO;
+import com.lambda.api.Entities.Image;
+import com.lambda.api.Entities.valueObjects.ImageBatchStatus;
+import com.lambda.api.Exceptions.ImageException;
+import com.lambda.api.Repositories.BannerRepository;
+import com.lambda.api.Repositories.ImageJobRepository;
+import com.lambda.api.Repositories.ImageRepository;
+import com.lambda.api.Repositories.MenuItemRepository;
+import com.lambda.api.Service.ImageDeletionService;
+import com.lambda.api.Service.ImageHashFilterService;
+import com.lambda.api.Service.ImageProcessingService;
+import com.lambda.api.Service.ImageStorageService;
+import com.lambda.api.Service.ImageUploadClaimService;
+import com.lambda.api.Utils.ImageMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageServiceImplTest {
+
+    @Mock
+    private ImageRepository repository;
+    @Mock
+    private ImageJobRepository jobRepository;
+    @Mock
+    private ImageStorageService storageService;
+    @Mock
+    private ImageDeletionService imageDeletionService;
+    @Mock
+    private ImageHashFilterService hashFilter;
+    @Mock
+    private ImageUploadClaimService uploadClaimService;
+    @Mock
+    private ImageProcessingService imageProcessingService;
+    @Mock
+    private BannerRepository bannerRepository;
+    @Mock
+    private MenuItemRepository menuItemRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ImageServiceImpl imageService;
+
+    @BeforeEach
+    void setUp() {
+
+        imageService = new ImageServiceImpl(repository, jobRepository, storageService, imageDeletionService, hashFilter,
+                uploadClaimService, imageProcessingService, new ObjectMapper(), bannerRepository, menuItemRepository,
+                Runnable::run, transactionManager);
+        ReflectionTestUtils.setField(imageService, "batchMaxFiles", 3);
+        ReflectionTestUtils.setField(imageService, "batchParallelism", 2);
+        ReflectionTestUtils.setField(imageService, "uploadClaimWaitMillis", 1000L);
+    }
+
+    @Test
+    void bulkDeletePartitionsIdsIntoDeletedInUseAndMissing() {
+
+        Image first = image(1L);
+        Image third = image(3L);
+        when(repository.findReferencedIds(Set.of(1L, 2L, 3L, 4L))).thenReturn(List.of(2L));
+        when(repository.findAllById(List.of(4L, 1L, 3L))).thenReturn(List.of(first, third));
+
+        ImageBulkDeleteResultDTO result = imageService.deleteImages(new ImageBulkDeleteDTO(List.of(4L, 1L, 2L, 3L, 1L)));
+
+        assertEquals(List.of(1L, 3L), result.deleted());
+        assertEquals(List.of(2L), result.inUse());
+        assertEquals(List.of(4L), result.notFound());
+        verify(menuItemRepository).detachImages(List.of(1L, 3L));
+        verify(repository).deleteAllInBatch(List.of(first, third));
+        verify(hashFilter).remove(first.getHash());
+        verify(hashFilter).remove(third.getHash());
+        verify(imageDeletionService).enqueueAll(List.of("img-1", "img-3"));
+    }
+
+    @Test
+    void bulkDeleteOfOnlyReferencedImagesTouchesNothing() {
+
+        when(repository.findReferencedIds(any())).thenReturn(List.of(1L, 2L));
+        when(repository.findAllById(List.of())).thenReturn(List.of());
+
+        ImageBulkDeleteResultDTO result = imageService.deleteImages(new ImageBulkDeleteDTO(List.of(1L, 2L)));
+
+        assertEquals(List.of(), result.deleted());
+        assertEquals(List.of(1L, 2L), result.inUse());
+        assertEquals(List.of(), result.notFound());
+        verify(menuItemRepository, never()).detachImages(any());
+        verify(hashFilter, never()).remove(any());
+    }
+
+    @Test
+    void bulkDeleteRejectsEmptyAndOversizedRequests() {
+
+        List<Long> tooMany = new ArrayList<>();
+        for (long id = 1; id <= 501; id++) {
+            tooMany.add(id);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> imageService.deleteImages(new ImageBulkDeleteDTO(null)));
+        assertThrows(IllegalArgumentException.class, () -> imageService.deleteImages(new ImageBulkDeleteDTO(Collections.emptyList())));
+        assertThrows(IllegalArgumentException.class, () -> imageService.deleteImages(new ImageBulkDeleteDTO(tooMany)));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void duplicateEntryNamesKeepTheLastEntry() throws Exception {
+
+        stubSuccessfulUploads();
+        byte[] first = bytes(1, 100);
+        byte[] second = bytes(2, 100);
+        // ZipOutputStream refuses duplicate names, so the second local header is renamed afterwards.
+        byte[] archive = rename(zip(Map.entry("a.png", first), Map.entry("b.png", second)), "b.png", "a.png");
+
+        List<ImageBatchResultDTO> results = imageService.uploadImages(new ByteArrayInputStream(archive));
+
+        assertEquals(1, results.size());
+        assertEquals("a.png", results.get(0).name());
+        assertEquals(ImageBatchStatus.CREATED, results.get(0).status());
+        verify(storageService).upload(any(), eq(sha256(second)));
+        verify(storageService, never()).upload(any(), eq(sha256(first)));
+    }
+
+    @Test
+    void oversizedAndEmptyEntriesFailWithoutStoppingTheBatch() throws Exception {
+
+        stubSuccessfulUploads();
+        byte[] archive = zip(
+                Map.entry("big.png", bytes(3, 3 * 1024 * 1024 + 1)),
+                Map.entry("empty.png", new byte[0]),
+                Map.entry("ok.png", bytes(4, 100)));
+
+        List<ImageBatchResultDTO> results = imageService.uploadImages(new ByteArrayInputStream(archive));
+
+        Map<String, ImageBatchResultDTO> byName = new HashMap<>();
+        results.forEach(result -> byName.put(result.name(), result));
+        assertEquals(3, results.size());
+        assertEquals(ImageBatchStatus.CREATED, byName.get("ok.png").status());
+        assertEquals(ImageBatchStatus.FAILED, byName.get("big.png").status());
+        assertTrue(byName.get("big.png").error().startsWith("File too large"));
+        assertEquals(ImageBatchStatus.FAILED, byName.get("empty.png").status());
+        verify(storageService, times(1)).upload(any(), any());
+    }
+
+    @Test
+    void archiveWithTooManyFilesIsRejected() throws Exception {
+
+        byte[] archive = zip(
+                Map.entry("1.png", bytes(1, 10)), Map.entry("2.png", bytes(2, 10)),
+                Map.entry("3.png", bytes(3, 10)), Map.entry("4.png", bytes(4, 10)));
+
+        assertThrows(ImageException.class, () -> imageService.uploadImages(new ByteArrayInputStream(archive)));
+        verifyNoInteractions(storageService);
+    }
+
+    @Test
+    void archiveWithOnlyDirectoriesIsRejected() throws Exception {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("photos/"));
+            zip.closeEntry();
+        }
+
+        assertThrows(IllegalArgumentException.class,
+                () -> imageService.uploadImages(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    @Test
+    void directUploadIsStoredWhenTheStoredBytesMatchTheClaimedHash() throws Exception {
+
+        byte[] content = bytes(5, 200);
+        String publicId = stubDirectUpload(content, content);
+        when(repository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        imageService.completeUpload("{}");
+
+        verify(repository).saveAndFlush(argThat(image -> image.getPublicId().equals(publicId)
+                && image.getWidth() == 800 && image.getHeight() == 600));
+        verify(hashFilter).add(sha256(content));
+        verifyNoInteractions(imageDeletionService);
+    }
+
+    @Test
+    void directUploadWithDifferentBytesIsRejectedAndDeleted() throws Exception {
+
+        String publicId = stubDirectUpload(bytes(6, 200), bytes(7, 200));
+
+        assertThrows(ImageException.class, () -> imageService.completeUpload("{}"));
+
+        verify(imageDeletionService).enqueue(publicId);
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void directUploadOverTheSizeLimitIsRejected() throws Exception {
+
+        String publicId = stubDirectUpload(bytes(8, 200), bytes(8, 3 * 1024 * 1024 + 1));
+
+        assertThrows(ImageException.class, () -> imageService.completeUpload("{}"));
+
+        verify(imageDeletionService).enqueue(publicId);
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void claimIsReleasedOnlyAfterTheRowIsStored() throws Exception {
+
+        byte[] content = bytes(9, 100);
+        String hash = sha256(content);
+        stubSingleUpload();
+
+        imageService.uploadImage(new ByteArrayInputStream(content));
+
+        InOrder order = inOrder(uploadClaimService, storageService, repository);
+        order.verify(uploadClaimService).tryClaim(eq(hash), any());
+        order.verify(storageService).upload(any(), eq(hash));
+        order.verify(repository).saveAndFlush(any());
+        order.verify(uploadClaimService).release(eq(hash), any());
+    }
+
+    @Test
+    void waitsForTheClaimantsRowInsteadOfUploadingAgain() throws Exception {
+
+        byte[] content = bytes(10, 100);
+        String hash = sha256(content);
+        Image stored = Image.createImage(uploadResult(hash), hash);
+        when(imageProcessingService.analyze(any())).thenReturn(CompletableFuture.completedFuture(ImageMetadata.UNKNOWN));
+        when(uploadClaimService.tryClaim(eq(hash), any())).thenReturn(false);
+        when(repository.findByHash(hash)).thenReturn(Optional.empty(), Optional.of(stored));
+
+        var result = imageService.uploadImage(new ByteArrayInputStream(content));
+
+        assertEquals(stored.getPublicUrl(), result.url());
+        verify(storageService, never()).upload(any(), any());
+        verify(uploadClaimService, never()).release(any(), any());
+    }
+
+    @Test
+    void concurrentIdenticalUploadsShareOneUploadAndTheStoredRow() throws Exception {
+
+        byte[] content = bytes(11, 100);
+        CountDownLatch uploading = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        stubSingleUpload();
+        doAnswer(invocation -> {
+            uploading.countDown();
+            assertTrue(proceed.await(5, TimeUnit.SECONDS));
+            return uploadResult(invocation.getArgument(1));
+        }).when(storageService).upload(any(), any());
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<ImageDTO> first = callers.submit(() -> imageService.uploadImage(new ByteArrayInputStream(content)));
+            assertTrue(uploading.await(5, TimeUnit.SECONDS));
+            Future<ImageDTO> second = callers.submit(() -> imageService.uploadImage(new ByteArrayInputStream(content)));
+
+            // The second caller must be parked on the first one's flight, not finished on its own.
+            Thread.sleep(200);
+            assertFalse(second.isDone());
+            proceed.countDown();
+
+            assertEquals(first.get(5, TimeUnit.SECONDS).url(), second.get(5, TimeUnit.SECONDS).url());
+        } finally {
+            callers.shutdownNow();
+        }
+        verify(storageService, times(1)).upload(any(), any());
+        verify(repository, times(1)).saveAndFlush(any());
+        verify(uploadClaimService, times(1)).tryClaim(any(), any());
+    }
+
+    private void stubSingleUpload() {
+
+        when(imageProcessingService.analyze(any())).thenReturn(CompletableFuture.completedFuture(ImageMetadata.UNKNOWN));
+        when(uploadClaimService.tryClaim(any(), any())).thenReturn(true);
+        lenient().when(storageService.upload(any(), any())).thenAnswer(invocation -> uploadResult(invocation.getArgument(1)));
+        when(repository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private Map<String, Object> uploadResult(String hash) {
+
+        return Map.of("url", "https://img/" + hash, "public_id", "images/" + hash);
+    }
+
+    // The client claims the hash of claimed; storage actually holds stored.
+    private String stubDirectUpload(byte[] claimed, byte[] stored) throws Exception {
+
+        String publicId = "images/" + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(MessageDigest.getInstance("SHA-256").digest(claimed));
+        when(storageService.verifyUploadResult("{}"))
+                .thenReturn(Map.of("url", "https://img/" + publicId, "public_id", publicId));
+        when(storageService.download(publicId)).thenReturn(new ByteArrayInputStream(stored));
+        lenient().when(imageProcessingService.analyze(any()))
+                .thenReturn(CompletableFuture.completedFuture(new ImageMetadata(800, 600, null)));
+        return publicId;
+    }
+
+    private void stubSuccessfulUploads() {
+
+        when(imageProcessingService.analyze(any())).thenReturn(CompletableFuture.completedFuture(ImageMetadata.UNKNOWN));
+        when(uploadClaimService.tryClaim(any(), any())).thenReturn(true);
+        when(storageService.upload(any(), any())).thenAnswer(invocation -> uploadResult(invocation.getArgument(1)));
+        when(repository.findAllByHashIn(any())).thenAnswer(invocation -> {
+            Collection<String> hashes = invocation.getArgument(0);
+            return hashes.stream()
+                    .map(hash -> Image.createImage(Map.of("url", "https://img/" + hash, "public_id", "images/" + hash), hash))
+                    .toList();
+        });
+    }
+
+    @SafeVarargs
+    private byte[] zip(Map.Entry<String, byte[]>... entries) throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (Map.Entry<String, byte[]> entry : entries) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue());
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    // Rewrites the first occurrence of a name, which is the entry's local header; ZipInputStream never reads the central directory.
+    private byte[] rename(byte[] archive, String from, String to) {
+
+        byte[] source = from.getBytes(StandardCharsets.UTF_8);
+        byte[] target = to.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i <= archive.length - source.length; i++) {
+            if (Arrays.equals(archive, i, i + source.length, source, 0, source.length)) {
+                System.arraycopy(target, 0, archive, i, target.length);
+                return archive;
+            }
+        }
+        throw new IllegalArgumentException(from + " not found");
+    }
+
+    private byte[] bytes(int seed, int size) {
+
+        byte[] bytes = new byte[size];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+
+    private String sha256(byte[] bytes) throws Exception {
+
+        return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(bytes));
+    }
+
+    private Image image(Long id) {
+
+        Image image = Image.createImage(Map.of("url", "https://img/" + id + ".png", "public_id", "img-" + id), hashOf(id));
+        ReflectionTestUtils.setField(image, "id", id);
+        return image;
+    }
+
+    private String hashOf(long value) {
+
+        return Base64.getEncoder().encodeToString(ByteBuffer.allocate(32).putLong(value).array());
+    }
+}
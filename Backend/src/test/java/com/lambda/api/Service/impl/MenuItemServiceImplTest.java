@@ -0,0 +1,75 @@
+package com.lambda.api.Service.impl;
+
+import com.lambda.api.Dtos.CreateMenuItemDTO;
+import com.lambda.api.Entities.Category;
+import com.lambda.api.Entities.Image;
+import com.lambda.api.Entities.MenuItem;
+import com.lambda.api.Repositories.ChangeSequenceRepository;
+import com.lambda.api.Utils.ImagePreset;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = {"IMAGE_STORAGE=cloudinary", "spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+@Import({MenuItemServiceImpl.class, ChangeSequenceRepository.class})
+class MenuItemServiceImplTest {
+
+    @Autowired
+    private MenuItemServiceImpl menuItemService;
+    @Autowired
+    private EntityManager entityManager;
+
+    private int imageCount;
+
+    @Test
+    void getMenuItemsUsesConstantNumberOfStatements() {
+
+        Category category = Category.create("eventos");
+        entityManager.persist(category);
+
+        assertEquals(3, countStatementsForMenuOf(category, 5));
+        assertEquals(3, countStatementsForMenuOf(category, 50));
+    }
+
+    private String hashOf(int imageCount) {
+
+        return Base64.getEncoder().encodeToString(ByteBuffer.allocate(32).putInt(imageCount).array());
+    }
+
+    private long countStatementsForMenuOf(Category category, int newItems) {
+
+        for (int i = 0; i < newItems; i++) {
+            String url = "https://img/" + (++imageCount) + ".png";
+            Image image = Image.createImage(Map.of("url", url, "public_id", "img-" + imageCount), hashOf(imageCount));
+            entityManager.persist(image);
+
+            entityManager.persist(MenuItem.createMenuItem(new CreateMenuItemDTO(
+                    "Menu " + i, "Subtitle", "Description", 1000,
+                    List.of("item a", "item b"), List.of(url), category.getId()
+            ), category, List.of(image)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        menuItemService.getMenuItems(ImagePreset.THUMBNAIL);
+
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,193 @@
+package com.lambda.api.Service.impl;
+
+import com.lambda.api.Dtos.CatalogChangesDTO;
+import com.lambda.api.Dtos.CreateProductDTO;
+import com.lambda.api.Dtos.ProductDTO;
+import com.lambda.api.Dtos.ProductSearchDTO;
+import com.lambda.api.Dtos.ProductSliceDTO;
+import com.lambda.api.Entities.Product;
+import com.lambda.api.Repositories.ChangeSequenceRepository;
+import com.lambda.api.Repositories.ProductRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {"IMAGE_STORAGE=cloudinary", "spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=create-drop"})
+@Import({ProductServiceImpl.class, ChangeSequenceRepository.class})
+class ProductServiceImplTest {
+
+    @Autowired
+    private ProductServiceImpl productService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void scrollVisitsEveryProductOnceInIdOrder() {
+
+        List<Long> ids = persistProducts(7, true);
+
+        List<Long> visited = new ArrayList<>();
+        String cursor = null;
+        int slices = 0;
+        ProductSliceDTO slice;
+
+        do {
+            slice = productService.getAllProductsAfter(cursor, 3);
+            slice.content().forEach(product -> visited.add(product.id()));
+            cursor = slice.nextCursor();
+            slices++;
+        } while (slice.hasNext());
+
+        assertEquals(ids, visited);
+        assertEquals(3, slices);
+        assertNull(slice.nextCursor());
+    }
+
+    @Test
+    void lastFullSliceHasNoNextCursor() {
+
+        List<Long> ids = persistProducts(6, true);
+
+        ProductSliceDTO first = productService.getAllProductsAfter(null, 3);
+        ProductSliceDTO second = productService.getAllProductsAfter(first.nextCursor(), 3);
+
+        assertTrue(first.hasNext());
+        assertEquals(ids.subList(3, 6), second.content().stream().map(ProductDTO::id).toList());
+        assertFalse(second.hasNext());
+        assertNull(second.nextCursor());
+    }
+
+    @Test
+    void cursorEncodesTheLastIdOfTheSlice() {
+
+        List<Long> ids = persistProducts(4, true);
+
+        ProductSliceDTO first = productService.getAllProductsAfter("", 2);
+        String decoded = new String(Base64.getUrlDecoder().decode(first.nextCursor()), StandardCharsets.UTF_8);
+
+        assertEquals(ids.get(1), Long.valueOf(decoded));
+        assertFalse(first.nextCursor().contains("="));
+    }
+
+    @Test
+    void availableScrollSkipsUnavailableProducts() {
+
+        List<Long> available = persistProducts(3, true);
+        persistProducts(3, false);
+
+        ProductSliceDTO slice = productService.getAvailableProductsAfter(null, 10);
+
+        assertEquals(available, slice.content().stream().map(ProductDTO::id).toList());
+        assertFalse(slice.hasNext());
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+
+        String notANumber = Base64.getUrlEncoder().encodeToString("abc".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class, () -> productService.getAllProductsAfter("%%%", 3));
+        assertThrows(IllegalArgumentException.class, () -> productService.getAllProductsAfter(notANumber, 3));
+    }
+
+    @Test
+    void searchAppliesOnlyTheFiltersThatAreSet() {
+
+        List<Long> available = persistProducts(3, true);
+        persistProducts(3, false);
+
+        var everything = productService.searchProducts(
+                new ProductSearchDTO(null, null, null, null, null, null, null, null), 0, 10, "id", "ASC");
+        var availableNamed = productService.searchProducts(
+                new ProductSearchDTO("PRODUCT 1", true, "unit", true, null, null, null, null), 0, 10, "id", "ASC");
+        var wildcard = productService.searchProducts(
+                new ProductSearchDTO("%", null, null, null, null, null, null, null), 0, 10, "id", "ASC");
+
+        assertEquals(6, everything.getTotalElements());
+        assertEquals(List.of(available.get(1)), availableNamed.getContent().stream().map(ProductDTO::id).toList());
+        assertEquals(0, wildcard.getTotalElements());
+    }
+
+    @Test
+    void changesCarryUpsertsTombstonesAndTheNextToken() {
+
+        Long kept = persistChanged(true, 1);
+        Long hidden = persistChanged(false, 2);
+        Long removed = persistChanged(true, 3);
+        productRepository.softDeleteById(removed, 4);
+        entityManager.clear();
+
+        CatalogChangesDTO<ProductDTO> all = productService.getAllProductChanges(null);
+        CatalogChangesDTO<ProductDTO> available = productService.getAvailableProductChanges("");
+
+        assertEquals(List.of(kept, hidden), all.upserts().stream().map(ProductDTO::id).toList());
+        assertEquals(List.of(removed), all.deleted());
+        assertEquals("4", all.token());
+
+        assertEquals(List.of(kept), available.upserts().stream().map(ProductDTO::id).toList());
+        assertEquals(List.of(hidden, removed), available.deleted());
+        assertEquals("4", available.token());
+    }
+
+    @Test
+    void changesSinceATokenOnlyIncludeLaterRows() {
+
+        persistChanged(true, 1);
+        persistChanged(true, 2);
+        Long removed = persistChanged(true, 3);
+        productRepository.softDeleteById(removed, 5);
+        entityManager.clear();
+
+        CatalogChangesDTO<ProductDTO> sinceTwo = productService.getAllProductChanges("2");
+        CatalogChangesDTO<ProductDTO> upToDate = productService.getAllProductChanges(sinceTwo.token());
+
+        assertTrue(sinceTwo.upserts().isEmpty());
+        assertEquals(List.of(removed), sinceTwo.deleted());
+        assertEquals("5", sinceTwo.token());
+        assertTrue(upToDate.upserts().isEmpty());
+        assertTrue(upToDate.deleted().isEmpty());
+        assertEquals("5", upToDate.token());
+    }
+
+    @Test
+    void malformedChangeTokenIsRejected() {
+
+        assertThrows(IllegalArgumentException.class, () -> productService.getAllProductChanges("abc"));
+        assertThrows(IllegalArgumentException.class, () -> productService.getAvailableProductChanges("-1"));
+    }
+
+    private Long persistChanged(boolean available, long changeSeq) {
+
+        Product product = Product.createProduct(new CreateProductDTO(
+                "Product " + changeSeq, "UNIT", 1.0, 100.0, 30.0, 1, available));
+        product.markChanged(changeSeq);
+        entityManager.persist(product);
+        entityManager.flush();
+        return product.getId();
+    }
+
+    private List<Long> persistProducts(int count, boolean available) {
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Product product = Product.createProduct(new CreateProductDTO(
+                    "Product " + i, "UNIT", 1.0, 100.0 + i, 30.0, 1, available));
+            entityManager.persist(product);
+            ids.add(product.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return ids;
+    }
+}
@@ -0,0 +1,73 @@
+package com.lambda.api.Utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteRangeTest {
+
+    private static final long SIZE = 1000;
+
+    @Test
+    void closedRangeIsInclusive() {
+
+        ByteRange range = ByteRange.parse("bytes=0-499", SIZE);
+
+        assertEquals(new ByteRange(0, 499), range);
+        assertEquals(500, range.length());
+    }
+
+    @Test
+    void endPastTheFileIsClampedToTheLastByte() {
+
+        assertEquals(new ByteRange(900, 999), ByteRange.parse("bytes=900-5000", SIZE));
+    }
+
+    @Test
+    void openEndedRangeRunsToTheEnd() {
+
+        assertEquals(new ByteRange(200, 999), ByteRange.parse("bytes=200-", SIZE));
+        assertEquals(new ByteRange(999, 999), ByteRange.parse("bytes=999-", SIZE));
+    }
+
+    @Test
+    void suffixRangeIsTheLastBytes() {
+
+        assertEquals(new ByteRange(900, 999), ByteRange.parse("bytes=-100", SIZE));
+        assertEquals(new ByteRange(0, 999), ByteRange.parse("bytes=-5000", SIZE));
+        assertEquals(1, ByteRange.parse("bytes=-1", SIZE).length());
+    }
+
+    @Test
+    void unsatisfiableRanges() {
+
+        assertSame(ByteRange.UNSATISFIABLE, ByteRange.parse("bytes=1000-", SIZE));
+        assertSame(ByteRange.UNSATISFIABLE, ByteRange.parse("bytes=1500-2000", SIZE));
+        assertSame(ByteRange.UNSATISFIABLE, ByteRange.parse("bytes=-0", SIZE));
+        assertSame(ByteRange.UNSATISFIABLE, ByteRange.parse("bytes=-10", 0));
+        assertSame(ByteRange.UNSATISFIABLE, ByteRange.parse("bytes=0-", 0));
+    }
+
+    @Test
+    void multiRangeRequestsAreIgnored() {
+
+        assertNull(ByteRange.parse("bytes=0-99,200-299", SIZE));
+        assertNull(ByteRange.parse("bytes=-100, 0-1", SIZE));
+    }
+
+    @Test
+    void malformedOrMissingHeadersAreIgnored() {
+
+        assertNull(ByteRange.parse(null, SIZE));
+        assertNull(ByteRange.parse("items=0-99", SIZE));
+        assertNull(ByteRange.parse("bytes=100", SIZE));
+        assertNull(ByteRange.parse("bytes=a-b", SIZE));
+        assertNull(ByteRange.parse("bytes=-", SIZE));
+    }
+
+    @Test
+    void whitespaceAroundTheBoundsIsAccepted() {
+
+        assertEquals(new ByteRange(10, 19), ByteRange.parse("bytes= 10 - 19 ", SIZE));
+    }
+}
@@ -0,0 +1,146 @@
+package com.lambda.api.Utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountingBloomFilterTest {
+
+    @Test
+    void addedDigestsAreAlwaysFound() {
+
+        CountingBloomFilter filter = CountingBloomFilter.create(1000, 0.01);
+        Random random = new Random(1);
+
+        byte[][] added = new byte[1000][];
+        for (int i = 0; i < added.length; i++) {
+            added[i] = digest(random);
+            filter.add(added[i]);
+        }
+
+        for (byte[] digest : added) {
+            assertTrue(filter.mightContain(digest));
+        }
+        assertEquals(1000, filter.entries());
+    }
+
+    @Test
+    void removeForgetsTheDigest() {
+
+        CountingBloomFilter filter = CountingBloomFilter.create(100, 0.01);
+        byte[] digest = digest(new Random(2));
+
+        filter.add(digest);
+        filter.remove(digest);
+
+        assertFalse(filter.mightContain(digest));
+        assertEquals(0, filter.entries());
+    }
+
+    @Test
+    void removingADigestThatWasNeverAddedIsIgnored() {
+
+        CountingBloomFilter filter = CountingBloomFilter.create(100, 0.01);
+        Random random = new Random(3);
+        byte[] kept = digest(random);
+        byte[] stranger = digest(random);
+
+        filter.add(kept);
+        filter.remove(stranger);
+
+        assertTrue(filter.mightContain(kept));
+        assertEquals(1, filter.entries());
+    }
+
+    @Test
+    void sharedCountersSurviveTheRemovalOfOneEntry() {
+
+        CountingBloomFilter filter = CountingBloomFilter.create(100, 0.01);
+        // Only the first 16 bytes pick the counters, so these two collide on every position.
+        byte[] first = digest(4, 1);
+        byte[] second = digest(4, 2);
+
+        filter.add(first);
+        filter.add(second);
+        filter.remove(first);
+
+        assertTrue(filter.mightContain(second));
+    }
+
+    @Test
+    void countersBelowTheMaximumGoBackToZero() {
+
+        CountingBloomFilter filter = CountingBloomFilter.create(100, 0.01);
+        byte[] digest = digest(5, 0);
+
+        for (int i = 0; i < 14; i++) {
+            filter.add(digest);
+        }
+        for (int i = 0; i < 14; i++) {
+            filter.remove(digest);
+        }
+
+        assertFalse(filter.mightContain(digest));
+    }
+
+    @Test
+    void saturatedCountersStickAtTheirMaximum() {
+
+        CountingBloomFilter filter = CountingBloomFilter.create(100, 0.01);
+        byte[] digest = digest(6, 0);
+
+        for (int i = 0; i < 20; i++) {
+            filter.add(digest);
+        }
+        for (int i = 0; i < 20; i++) {
+            filter.remove(digest);
+        }
+
+        // A saturated counter no longer knows its true count, so it is never decremented.
+        assertTrue(filter.mightContain(digest));
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheTargetAtCapacity() {
+
+        CountingBloomFilter filter = CountingBloomFilter.create(10_000, 0.01);
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(digest(random));
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(digest(random))) {
+                falsePositives++;
+            }
+        }
+
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.002);
+        assertTrue((double) falsePositives / probes < 0.02, "observed " + falsePositives + " false positives");
+    }
+
+    @Test
+    void sizingIsValidated() {
+
+        assertThrows(IllegalArgumentException.class, () -> CountingBloomFilter.create(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> CountingBloomFilter.create(100, 0));
+        assertThrows(IllegalArgumentException.class, () -> CountingBloomFilter.create(100, 1));
+    }
+
+    private byte[] digest(Random random) {
+
+        byte[] digest = new byte[32];
+        random.nextBytes(digest);
+        return digest;
+    }
+
+    private byte[] digest(long prefix, long suffix) {
+
+        return ByteBuffer.allocate(32).putLong(prefix).putLong(prefix * 31 + 17).putLong(suffix).array();
+    }
+}
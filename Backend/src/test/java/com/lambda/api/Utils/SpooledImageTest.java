@@ -0,0 +1,83 @@
+package com.lambda.api.Utils;
+
+import com.lambda.api.Exceptions.ImageException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpooledImageTest {
+
+    @Test
+    void spoolsTheWholeBodyAndHashesIt() throws Exception {
+
+        byte[] body = randomBytes(200 * 1024);
+
+        Path file;
+        try (SpooledImage image = SpooledImage.spool(new ByteArrayInputStream(body), body.length)) {
+            file = image.file();
+
+            assertEquals(body.length, image.size());
+            assertArrayEquals(body, Files.readAllBytes(file));
+            assertEquals(sha256(body), image.hash());
+        }
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void hashMatchesTheMultipartUploadPath() throws Exception {
+
+        byte[] body = randomBytes(70 * 1024);
+
+        try (SpooledImage image = SpooledImage.spool(new ByteArrayInputStream(body), body.length)) {
+            assertEquals(ImageHashUtils.calculateHash(new MockMultipartFile("file", body)), image.hash());
+        }
+    }
+
+    @Test
+    void bodyOverTheLimitIsRejectedAndRemoved() throws Exception {
+
+        byte[] body = randomBytes(1024);
+        long before = countSpoolFiles();
+
+        assertThrows(ImageException.class, () -> SpooledImage.spool(new ByteArrayInputStream(body), body.length - 1));
+        assertEquals(before, countSpoolFiles());
+    }
+
+    @Test
+    void emptyBodyIsRejectedAndRemoved() throws Exception {
+
+        long before = countSpoolFiles();
+
+        assertThrows(IllegalArgumentException.class, () -> SpooledImage.spool(new ByteArrayInputStream(new byte[0]), 1024));
+        assertEquals(before, countSpoolFiles());
+    }
+
+    private byte[] randomBytes(int size) {
+
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    private String sha256(byte[] bytes) throws Exception {
+
+        return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(bytes));
+    }
+
+    private long countSpoolFiles() throws IOException {
+
+        try (Stream<Path> files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(path -> path.getFileName().toString().startsWith("image-upload-")).count();
+        }
+    }
+}
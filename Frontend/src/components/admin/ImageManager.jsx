@@ -36,14 +36,9 @@ const ImageManager = () => {
     if (file) {
       try {
         setUploading(true);
-        const reader = new FileReader();
-        reader.onloadend = async () => {
-          const base64String = reader.result.split(',')[1];
-          await imageService.uploadImage(base64String);
-          fetchImages();
-          setError(null);
-        };
-        reader.readAsDataURL(file);
+        await imageService.uploadImageDirect(file);
+        fetchImages();
+        setError(null);
       } catch (err) {
         setError(err.message);
       } finally {
@@ -213,10 +213,55 @@ export const menuService = {
 export const imageService = {
   uploadImage: async base64image => {
     try {
-      const response = await axiosInstance.post('/image/create', { base64image });
-      return response.data;
+      let { data: job } = await axiosInstance.post('/image/create', { base64image });
+      // La subida a Cloudinary se procesa en segundo plano; se consulta el estado del job hasta que termine
+      while (job.status === 'PENDING') {
+        await new Promise(resolve => setTimeout(resolve, 1000));
+        ({ data: job } = await axiosInstance.get(`/image/jobs/${job.id}`));
+      }
+      if (job.status === 'FAILED') {
+        throw new Error(job.error || 'Error al subir la imagen');
+      }
+      return job.image;
+    } catch (error) {
+      throw new Error(error.response?.data?.message || error.message || 'Error al subir la imagen');
+    }
+  },
+
+  // Los bytes van directo del navegador a Cloudinary; el backend solo firma y registra el resultado
+  uploadImageDirect: async file => {
+    try {
+      const digest = await crypto.subtle.digest('SHA-256', await file.arrayBuffer());
+      const hash = btoa(String.fromCharCode(...new Uint8Array(digest)));
+
+      const { data: signature } = await axiosInstance.post('/image/upload/signature', { hash });
+      if (signature.image) {
+        return signature.image;
+      }
+      if (!signature.uploadUrl) {
+        // El almacenamiento local no admite subida directa; el archivo pasa por la API
+        const { data: image } = await axiosInstance.post('/image/upload', file, {
+          headers: { 'Content-Type': 'application/octet-stream' },
+        });
+        return image;
+      }
+
+      const form = new FormData();
+      Object.entries(signature.params).forEach(([key, value]) => form.append(key, value));
+      form.append('file', file);
+
+      const uploadResponse = await fetch(signature.uploadUrl, { method: 'POST', body: form });
+      if (!uploadResponse.ok) {
+        throw new Error('Error al subir la imagen');
+      }
+      const uploadResult = await uploadResponse.text();
+
+      const { data: image } = await axiosInstance.post('/image/upload/complete', uploadResult, {
+        headers: { 'Content-Type': 'application/json' },
+      });
+      return image;
     } catch (error) {
-      throw new Error(error.response?.data?.message || 'Error al subir la imagen');
+      throw new Error(error.response?.data?.message || error.message || 'Error al subir la imagen');
     }
   },
 